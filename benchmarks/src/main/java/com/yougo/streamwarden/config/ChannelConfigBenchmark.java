@@ -0,0 +1,100 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * channels.json load (read + parse) and save (serialize + fsynced atomic write) at various list sizes
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChannelConfigBenchmark {
+
+    private static final String[] PLATFORMS = {"Twitch", "YouTube", "Kick"};
+
+    @Param({"10", "1000", "10000"})
+    public int channelCount;
+
+    private Path directory;
+    private Path channelsFile;
+    private List<ChannelConfig.ChannelData> channels;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("streamwarden-bench");
+        channelsFile = directory.resolve("channels.json");
+
+        channels = new ArrayList<>(channelCount);
+        for (int i = 0; i < channelCount; i++) {
+            ChannelConfig.ChannelData data = new ChannelConfig.ChannelData();
+            data.platform = PLATFORMS[i % PLATFORMS.length];
+            data.channelName = "channel_" + i;
+            data.channelUrl = "https://www.twitch.tv/channel_" + i;
+            data.isActive = i % 2 == 0;
+            data.quality = "1080p";
+            channels.add(data);
+        }
+        Files.writeString(channelsFile, ChannelConfig.toJson(channels), StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public List<ChannelConfig.ChannelData> load() throws IOException {
+        try (Reader reader = Files.newBufferedReader(channelsFile, StandardCharsets.UTF_8)) {
+            return ChannelConfig.fromJson(reader);
+        }
+    }
+
+    @Benchmark
+    public String serialize() {
+        return ChannelConfig.toJson(channels);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        DebouncedFileWriter.writeAtomically(channelsFile.toFile(), ChannelConfig.toJson(channels));
+    }
+}
@@ -0,0 +1,66 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.yougo.streamwarden.config.AppSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quality parameter built for every recording start
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QualityFallbackBenchmark {
+
+    @Param({"1080p", "1080p60", "144p", "best"})
+    public String quality;
+
+    @Param({"true", "false"})
+    public boolean recordHighFps;
+
+    private StreamMonitor monitor;
+    private String baseQuality;
+
+    @Setup
+    public void setUp() {
+        AppSettings settings = new AppSettings();
+        settings.setRecordHighFps(recordHighFps);
+        Channel channel = new Channel("Twitch", "benchmark", "https://www.twitch.tv/benchmark", true, quality);
+        monitor = new StreamMonitor(channel, settings, null, null);
+        baseQuality = quality.replaceAll("\\d+$", "");
+    }
+
+    @Benchmark
+    public String buildQualityWithFallback() {
+        return monitor.buildQualityWithFallback(quality);
+    }
+
+    @Benchmark
+    public String[] generateQualityVariants() {
+        return monitor.generateQualityVariants(baseQuality);
+    }
+}
@@ -0,0 +1,122 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.yougo.streamwarden.config.AppSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of streamlink output: recorder log lines, --json metadata and file names built from titles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamlinkOutputBenchmark {
+
+    // Output of a typical Twitch recording session, as read line by line by the recorder thread
+    private static final String[] RECORDER_LOG = {
+        "[cli][info] Found matching plugin twitch for URL https://www.twitch.tv/benchmark",
+        "[cli][info] Available streams: audio_only, 160p (worst), 360p, 480p, 720p60, 1080p60 (best)",
+        "[cli][info] Opening stream: 1080p60 (hls)",
+        "[cli][info] Writing output to",
+        "/home/user/downloads/benchmark/2025-09-15_20-00-00_Late_night_ranked_grind.ts",
+        "[stream.hls][warning] Encountered a stream discontinuity. This is unsupported and will result in incoherent output data.",
+        "[stream.twitch][info] Will skip ad segments",
+        "[stream.twitch][info] Waiting for pre-roll ads to finish, be patient",
+        "[stream.hls][info] Filtering out segments and pausing stream output",
+        "[stream.hls][info] Resuming stream output",
+        "[download] Written 1.23 GiB to 2025-09-15_20-00-00_Late_night_ranked_grind.ts (1h02m03s @ 346.12 KiB/s)",
+        "[stream.segmented][debug] Closing worker thread",
+        "[stream.segmented][debug] Closing writer thread",
+        "[cli][info] Stream ended",
+        "[cli][info] Closing currently open stream..."
+    };
+
+    private static final String TITLE = "Late night ranked grind | !discord !socials — road to 3000 🎮";
+
+    private StreamMonitor monitor;
+    private String metadataJson;
+    private byte[] metadataBytes;
+
+    @Setup
+    public void setUp() {
+        Channel channel = new Channel("Twitch", "benchmark", "https://www.twitch.tv/benchmark", true, "best");
+        monitor = new StreamMonitor(channel, new AppSettings(), null, null);
+        metadataJson = buildMetadataJson();
+        metadataBytes = metadataJson.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * streamlink --json output: metadata plus every stream variant with its (long, signed) playlist URL
+     */
+    private static String buildMetadataJson() {
+        String[] streams = {"audio_only", "160p", "360p", "480p", "720p60", "1080p60", "worst", "best"};
+        StringBuilder json = new StringBuilder();
+        json.append("{\"plugin\": \"twitch\", \"metadata\": {\"id\": \"41234567890\", \"author\": \"benchmark\", ")
+            .append("\"category\": \"Just Chatting\", \"title\": \"").append(TITLE).append("\"}, \"streams\": {");
+        for (int i = 0; i < streams.length; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append('"').append(streams[i]).append("\": {\"type\": \"hls\", \"url\": \"https://video-weaver.fra05.hls.ttvnw.net/v1/playlist/")
+                .append("Cq8FSQ7r4mHk2vX0bQ".repeat(24)).append(".m3u8\", \"headers\": {\"User-Agent\": ")
+                .append("\"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36\", ")
+                .append("\"Accept-Encoding\": \"gzip, deflate\", \"Accept\": \"*/*\", \"Connection\": \"keep-alive\"}, ")
+                .append("\"master\": \"https://usher.ttvnw.net/api/channel/hls/benchmark.m3u8\"}");
+        }
+        json.append("}}");
+        return json.toString();
+    }
+
+    @Benchmark
+    public void extractQualityFromOutput(Blackhole blackhole) {
+        for (String line : RECORDER_LOG) {
+            blackhole.consume(monitor.extractQualityFromOutput(line));
+        }
+    }
+
+    @Benchmark
+    public String extractTitleFromJson() {
+        return monitor.extractTitleFromJson(metadataJson);
+    }
+
+    /**
+     * The probe path: decode and parse straight from the process output bytes
+     */
+    @Benchmark
+    public StreamInfo parseStreamInfo() throws IOException {
+        return StreamInfo.parse(new InputStreamReader(new ByteArrayInputStream(metadataBytes), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String sanitizeFilename() {
+        return monitor.sanitizeFilename(TITLE);
+    }
+}
@@ -84,7 +84,7 @@ call jpackage --type app-image ^
   --main-jar StreamWarden-%APP_VERSION%-jar-with-dependencies.jar ^
   --main-class com.yougo.streamwarden.Main ^
   --module-path "%JAVAFX_SDK_PATH%" ^
-  --add-modules javafx.controls,javafx.fxml ^
+  --add-modules javafx.controls,javafx.fxml,jdk.httpserver,java.management,jdk.jfr ^
   --java-options "-Dprism.order=sw" ^
   --java-options "--enable-native-access=javafx.graphics" ^
   --java-options "-Djava.library.path=app/bin/windows/javafx-natives" ^
@@ -0,0 +1,122 @@
+#!/bin/sh
+# Stand-in for streamlink used by the load test, runs fully offline.
+#
+# The channel URL carries its live schedule, so the harness knows when each channel goes live:
+#   https://loadtest.invalid/<name>?period=<seconds>&duty=<percent live>&phase=<seconds>
+# A channel is live while (now + phase) mod period < period * duty / 100.
+#
+# Behaviour is tuned through the environment:
+#   FAKE_LATENCY_MS    base response time of a probe or recorder start (default 300)
+#   FAKE_JITTER_MS     random extra latency, 0..jitter (default 200)
+#   FAKE_FAILURE_PCT   percentage of invocations failing with an error (default 0)
+#   FAKE_BITRATE_KBPS  bitrate of the recorded byte stream (default 6000)
+#   FAKE_HLS_BASE      base URL of HlsStandInServer returned by --stream-url (default: unreachable)
+#   FAKE_TITLE_CHANGE_S  change the stream title every that many seconds (default 0, never)
+
+LATENCY_MS=${FAKE_LATENCY_MS:-300}
+JITTER_MS=${FAKE_JITTER_MS:-200}
+FAILURE_PCT=${FAKE_FAILURE_PCT:-0}
+BITRATE_KBPS=${FAKE_BITRATE_KBPS:-6000}
+TITLE_CHANGE_S=${FAKE_TITLE_CHANGE_S:-0}
+
+if [ "$1" = "--version" ]; then
+    echo "streamlink 7.5.0 (fake)"
+    exit 0
+fi
+
+random() {
+    # Uniform 0..65535 from /dev/urandom, time-based seeds would repeat across concurrent processes
+    od -An -N2 -tu2 /dev/urandom | tr -d ' '
+}
+
+pause_ms() {
+    ms=$1
+    sleep "$((ms / 1000)).$(printf '%03d' $((ms % 1000)))"
+}
+
+url=$1
+shift
+name=${url##*/}
+name=${name%%\?*}
+query=${url#*\?}
+param() {
+    printf '%s\n' "$query" | tr '&' '\n' | sed -n "s/^$1=//p"
+}
+period=$(param period)
+duty=$(param duty)
+phase=$(param phase)
+period=${period:-3600}
+duty=${duty:-50}
+phase=${phase:-0}
+
+is_live() {
+    now=$(date +%s)
+    [ $(( (now + phase) % period )) -lt $(( period * duty / 100 )) ]
+}
+
+json=false
+stream_url=false
+output=""
+while [ $# -gt 0 ]; do
+    case "$1" in
+        --json) json=true ;;
+        --stream-url) stream_url=true ;;
+        -o) shift; output=$1 ;;
+    esac
+    shift
+done
+
+if [ "$JITTER_MS" -gt 0 ]; then
+    pause_ms $((LATENCY_MS + $(random) % (JITTER_MS + 1)))
+else
+    pause_ms "$LATENCY_MS"
+fi
+
+if [ "$FAILURE_PCT" -gt 0 ] && [ $(( $(random) % 100 )) -lt "$FAILURE_PCT" ]; then
+    echo "error: Unable to open URL: $url (fake failure)" >&2
+    exit 2
+fi
+
+if ! is_live; then
+    echo "error: No playable streams found on this URL: $url" >&2
+    exit 1
+fi
+
+if [ "$json" = true ]; then
+    title="Load test stream $name"
+    if [ "$TITLE_CHANGE_S" -gt 0 ]; then
+        title="$title part $(( $(date +%s) / TITLE_CHANGE_S % 100 ))"
+    fi
+    printf '{"plugin": "loadtest", "metadata": {"id": "%s", "author": "%s", "category": "Load test", "title": "%s"}, ' \
+        "$(date +%s)" "$name" "$title"
+    printf '"streams": {"720p": {"type": "hls", "url": "https://loadtest.invalid/%s/720p.m3u8"}, ' "$name"
+    printf '"1080p60": {"type": "hls", "url": "https://loadtest.invalid/%s/1080p60.m3u8"}}}\n' "$name"
+    exit 0
+fi
+
+if [ "$stream_url" = true ]; then
+    # Playlist on the HLS stand-in server when FAKE_HLS_BASE is set, otherwise an unreachable one
+    echo "${FAKE_HLS_BASE:-https://loadtest.invalid}/$name/index.m3u8?$query"
+    exit 0
+fi
+
+if [ -z "$output" ]; then
+    echo "error: The default player (VLC) does not seem to be installed (fake)" >&2
+    exit 1
+fi
+
+echo "[cli][info] Found matching plugin loadtest for URL $url"
+echo "[cli][info] Available streams: 720p (worst), 1080p60 (best)"
+echo "[cli][info] Opening stream: 1080p60 (hls)"
+echo "[cli][info] Writing output to"
+echo "$output"
+
+# One second of data per second until the schedule takes the channel offline
+bytes_per_second=$((BITRATE_KBPS * 125))
+while is_live; do
+    head -c "$bytes_per_second" /dev/zero >> "$output"
+    sleep 1
+done
+echo "[cli][info] Stream ended"
+echo "[cli][info] Closing currently open stream..."
+exit 0
@@ -0,0 +1,25 @@
+#!/bin/sh
+# Run the load test offline against fake-streamlink.sh, in a scratch working directory
+# (the engine keeps its config, journal, logs and recordings relative to the working directory).
+#
+#   loadtest/run-loadtest.sh [-channels N] [-duration SECONDS] [-interval SECONDS] [-period SECONDS] [-duty PERCENT]
+#
+# The fake's latency, failure rate and bitrate are set through FAKE_* variables, see fake-streamlink.sh.
+# With HLS_PORT set, recordings go through the built-in HLS recorder against a stand-in origin on that port.
+set -e
+
+HERE=$(cd "$(dirname "$0")" && pwd)
+JAR="$HERE/target/loadtest.jar"
+if [ ! -f "$JAR" ]; then
+    echo "Build first: mvn install -DskipTests -Dmaven.antrun.skip=true && mvn -f loadtest/pom.xml package" >&2
+    exit 1
+fi
+
+WORK_DIR=${WORK_DIR:-$(mktemp -d "${TMPDIR:-/tmp}/streamwarden-loadtest.XXXXXX")}
+echo "Working directory: $WORK_DIR"
+cd "$WORK_DIR"
+if [ -n "${HLS_PORT:-}" ]; then
+    export FAKE_HLS_BASE="http://127.0.0.1:$HLS_PORT"
+    set -- -hls-port "$HLS_PORT" "$@"
+fi
+exec java ${JAVA_OPTS:-} -jar "$JAR" -streamlink "$HERE/fake-streamlink.sh" "$@"
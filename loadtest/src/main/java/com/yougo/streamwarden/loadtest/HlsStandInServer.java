@@ -0,0 +1,156 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local stand-in for a live HLS origin, to exercise the built-in recorder offline.
+ * GET /{channel}/index.m3u8?period=..&duty=..&phase=.. serves a sliding live media playlist while the
+ * LiveSchedule says the channel is live and 404 otherwise; GET /{channel}/seg/{sequence}.ts serves a segment
+ * made of its sequence number repeated as 8-byte big-endian values, so the recording order can be verified.
+ */
+public class HlsStandInServer {
+
+    private static final int WINDOW_SEGMENTS = 6;
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final int segmentSeconds;
+    private final int segmentBytes;
+    private final int failurePercent;
+
+    public HlsStandInServer(int port, int segmentSeconds, int bitrateKbps, int failurePercent) throws IOException {
+        this.segmentSeconds = segmentSeconds;
+        this.segmentBytes = Math.max(8, bitrateKbps * 125 * segmentSeconds) & ~7;
+        this.failurePercent = failurePercent;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.requestExecutor = Executors.newFixedThreadPool(8, r -> {
+            Thread t = new Thread(r, "HlsStandIn");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(requestExecutor);
+        server.createContext("/", this::handle);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^-+", ""), args[i + 1]);
+        }
+        HlsStandInServer server = new HlsStandInServer(
+            Integer.parseInt(options.getOrDefault("port", "8090")),
+            Integer.parseInt(options.getOrDefault("segment", "2")),
+            Integer.parseInt(options.getOrDefault("bitrate", "6000")),
+            Integer.parseInt(options.getOrDefault("failure", "0")));
+        server.start();
+        System.out.println("HLS stand-in listening on " + server.getBaseUrl());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            LiveSchedule schedule = scheduleOf(exchange.getRequestURI().getRawQuery());
+            long nowSeconds = System.currentTimeMillis() / 1000;
+            if (path.length < 3 || !schedule.isLive(nowSeconds)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (path.length == 3 && "index.m3u8".equals(path[2])) {
+                sendPlaylist(exchange, schedule, nowSeconds);
+            } else if (path.length == 4 && "seg".equals(path[2]) && path[3].endsWith(".ts")) {
+                if (failurePercent > 0 && ThreadLocalRandom.current().nextInt(100) < failurePercent) {
+                    exchange.sendResponseHeaders(503, -1);
+                    return;
+                }
+                sendSegment(exchange, Long.parseLong(path[3].substring(0, path[3].length() - 3)));
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } catch (RuntimeException e) {
+            exchange.sendResponseHeaders(400, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sendPlaylist(HttpExchange exchange, LiveSchedule schedule, long nowSeconds) throws IOException {
+        // Only segments completed since the channel went live are listed
+        long liveSince = schedule.lastGoLive(nowSeconds);
+        long newest = nowSeconds / segmentSeconds - 1;
+        long oldest = Math.max(liveSince / segmentSeconds, newest - WINDOW_SEGMENTS + 1);
+        StringBuilder playlist = new StringBuilder("#EXTM3U\n#EXT-X-VERSION:3\n")
+            .append("#EXT-X-TARGETDURATION:").append(segmentSeconds).append('\n')
+            .append("#EXT-X-MEDIA-SEQUENCE:").append(oldest).append('\n');
+        String query = exchange.getRequestURI().getRawQuery();
+        for (long sequence = oldest; sequence <= newest; sequence++) {
+            playlist.append("#EXTINF:").append(segmentSeconds).append(".000,live\n")
+                .append("seg/").append(sequence).append(".ts?").append(query).append('\n');
+        }
+        send(exchange, "application/vnd.apple.mpegurl", playlist.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendSegment(HttpExchange exchange, long sequence) throws IOException {
+        ByteBuffer body = ByteBuffer.allocate(segmentBytes);
+        while (body.hasRemaining()) {
+            body.putLong(sequence);
+        }
+        send(exchange, "video/mp2t", body.array());
+    }
+
+    private static void send(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static LiveSchedule scheduleOf(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    params.put(pair.substring(0, equals), pair.substring(equals + 1));
+                }
+            }
+        }
+        return new LiveSchedule(Integer.parseInt(params.getOrDefault("period", "3600")),
+            Integer.parseInt(params.getOrDefault("duty", "50")), Integer.parseInt(params.getOrDefault("phase", "0")));
+    }
+}
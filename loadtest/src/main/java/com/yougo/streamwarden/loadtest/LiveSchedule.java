@@ -0,0 +1,50 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.loadtest;
+
+/**
+ * Periodic live schedule of a fake channel, encoded in the channel URL so fake-streamlink.sh
+ * and the harness agree on when the channel is live without sharing any state.
+ * A channel is live while (now + phase) mod period < period * duty / 100 (whole seconds).
+ */
+final class LiveSchedule {
+
+    private static final String URL_PREFIX = "https://loadtest.invalid/";
+
+    final int periodSeconds;
+    final int dutyPercent;
+    final int phaseSeconds;
+
+    LiveSchedule(int periodSeconds, int dutyPercent, int phaseSeconds) {
+        this.periodSeconds = periodSeconds;
+        this.dutyPercent = dutyPercent;
+        this.phaseSeconds = phaseSeconds;
+    }
+
+    String toUrl(String channelName) {
+        return URL_PREFIX + channelName + "?period=" + periodSeconds + "&duty=" + dutyPercent + "&phase=" + phaseSeconds;
+    }
+
+    boolean isLive(long epochSecond) {
+        return position(epochSecond) < (long) periodSeconds * dutyPercent / 100;
+    }
+
+    /**
+     * Start of the period containing the given time, which is when the channel last went live
+     */
+    long lastGoLive(long epochSecond) {
+        return epochSecond - position(epochSecond);
+    }
+
+    private long position(long epochSecond) {
+        return Math.floorMod(epochSecond + phaseSeconds, (long) periodSeconds);
+    }
+}
@@ -0,0 +1,312 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.loadtest;
+
+import com.sun.management.OperatingSystemMXBean;
+import com.yougo.streamwarden.config.AppSettings;
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.ChannelStatus;
+import com.yougo.streamwarden.core.MonitoringService;
+import com.yougo.streamwarden.logging.LogEntry;
+import com.yougo.streamwarden.logging.LogService;
+import com.yougo.streamwarden.metrics.MetricsRegistry;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives MonitoringService with N fake channels against fake-streamlink.sh and reports CPU, threads,
+ * process spawns per second, heap, go-live detection latency and UI thread lag.
+ * The JavaFX thread is simulated by a single-thread executor receiving the status callbacks
+ * plus a 100 ms heartbeat, its lag is the delay between posting a task and running it.
+ */
+public class LoadTest {
+
+    private static final long SAMPLE_INTERVAL_SECONDS = 5;
+    private static final long HEARTBEAT_MS = 100;
+
+    private final int channelCount;
+    private final int durationSeconds;
+    private final int checkIntervalSeconds;
+    private final int periodSeconds;
+    private final int dutyPercent;
+    private final String streamlinkPath;
+    private final long seed;
+    private final int hlsPort;
+    private final List<String> extraQualities;
+    private final int maxExtraOutputs;
+
+    private final Map<String, LiveSchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<String, Long> detectedGoLives = new ConcurrentHashMap<>();
+    private final Samples detectionLatencyMs = new Samples();
+    private final Samples uiLagMs = new Samples();
+    private final Samples cpuLoad = new Samples();
+    private final Samples systemCpuLoad = new Samples();
+    private final ExecutorService uiThread = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "SimulatedUiThread");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "LoadTestSampler");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile long startMillis;
+    private volatile int statusEvents;
+    private volatile int alreadyLiveAtStart;
+    private int maxThreads;
+    private long maxHeapBytes;
+
+    private LoadTest(Map<String, String> options) {
+        this.channelCount = Integer.parseInt(options.getOrDefault("channels", "100"));
+        this.durationSeconds = Integer.parseInt(options.getOrDefault("duration", "300"));
+        this.checkIntervalSeconds = Integer.parseInt(options.getOrDefault("interval", "60"));
+        this.periodSeconds = Integer.parseInt(options.getOrDefault("period", "1800"));
+        this.dutyPercent = Integer.parseInt(options.getOrDefault("duty", "25"));
+        this.streamlinkPath = options.getOrDefault("streamlink", "fake-streamlink.sh");
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        this.hlsPort = Integer.parseInt(options.getOrDefault("hls-port", "-1"));
+        String extras = options.getOrDefault("extra", "");
+        this.extraQualities = extras.isEmpty() ? List.of() : List.of(extras.split(","));
+        this.maxExtraOutputs = Integer.parseInt(options.getOrDefault("max-extra", "0"));
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        Map<String, String> options = new ConcurrentHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("-")) {
+                System.err.println("Unexpected argument: " + args[i]);
+                System.exit(2);
+            }
+            options.put(args[i].replaceFirst("^-+", ""), args[i + 1]);
+        }
+        new LoadTest(options).run();
+    }
+
+    private void run() throws InterruptedException, IOException {
+        LogService.get().configure(LogEntry.Level.WARN, false, 10, 5);
+
+        // Record through the built-in HLS recorder from a local stand-in origin (fake-streamlink.sh
+        // must get FAKE_HLS_BASE pointing at the same port, run-loadtest.sh does that for HLS_PORT)
+        HlsStandInServer hlsServer = null;
+        if (hlsPort >= 0) {
+            hlsServer = new HlsStandInServer(hlsPort, 2, Integer.parseInt(
+                System.getenv().getOrDefault("FAKE_BITRATE_KBPS", "6000")), 0);
+            hlsServer.start();
+            System.out.println("HLS stand-in: " + hlsServer.getBaseUrl());
+        }
+
+        AppSettings settings = AppSettings.load();
+        settings.setCustomStreamlinkPath(new File(streamlinkPath).getAbsolutePath());
+        settings.setOutputDirectory(new File("downloads").getAbsolutePath());
+        settings.setDefaultCheckInterval(checkIntervalSeconds);
+        settings.setUseScratchDirectory(false);
+        settings.setBuiltInHlsRecorder(hlsServer != null);
+        settings.setMaxExtraOutputs(maxExtraOutputs);
+        AppSettings.detectStreamlink();
+        System.out.printf("Streamlink: %s (%s)%n", settings.getStreamlinkPath(), settings.getStreamlinkVersion());
+
+        MonitoringService monitoringService = new MonitoringService(settings);
+        monitoringService.addStatusListener(this::onStatusChanged);
+
+        Random random = new Random(seed);
+        List<Channel> channels = new ArrayList<>(channelCount);
+        for (int i = 0; i < channelCount; i++) {
+            String name = "loadtest_" + i;
+            LiveSchedule schedule = new LiveSchedule(periodSeconds, dutyPercent, random.nextInt(periodSeconds));
+            Channel channel = new Channel("Twitch", name, schedule.toUrl(name), true, "1080p", null, extraQualities);
+            schedules.put(channel.getKey(), schedule);
+            channels.add(channel);
+        }
+
+        System.out.printf("Load test: %d channels, %d s, check every %d s, live %d%% of every %d s%n",
+            channelCount, durationSeconds, checkIntervalSeconds, dutyPercent, periodSeconds);
+        System.out.printf("%8s %8s %8s %8s %10s %10s %8s %8s%n",
+            "time_s", "cpu_%", "sys_%", "threads", "heap_mb", "spawns/s", "live", "ui_lag");
+
+        startMillis = System.currentTimeMillis();
+        monitoringService.loadChannels(channels);
+        monitoringService.startAllActiveChannels();
+
+        sampler.scheduleAtFixedRate(() -> {
+            long posted = System.nanoTime();
+            uiThread.execute(() -> uiLagMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - posted)));
+        }, HEARTBEAT_MS, HEARTBEAT_MS, TimeUnit.MILLISECONDS);
+        sampler.scheduleAtFixedRate(new Sampler(monitoringService), SAMPLE_INTERVAL_SECONDS,
+            SAMPLE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+
+        sampler.shutdownNow();
+        long totalSpawns = readCounterTotal("streamwarden_process_spawns_total");
+        long totalProbes = readCounterTotal("streamwarden_probes_total");
+        double elapsedSeconds = (System.currentTimeMillis() - startMillis) / 1000.0;
+        monitoringService.shutdown((channelKey, outcome, stopped, total) -> { });
+        uiThread.shutdownNow();
+        if (hlsServer != null) {
+            hlsServer.stop();
+        }
+
+        report(elapsedSeconds, totalSpawns, totalProbes);
+        LogService.get().shutdown();
+        System.exit(0);
+    }
+
+    /**
+     * Status callback on a monitor thread: timestamp the detection, then hand over to the simulated UI thread
+     */
+    private void onStatusChanged(Channel channel, ChannelStatus status) {
+        long posted = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        uiThread.execute(() -> {
+            uiLagMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - posted));
+            statusEvents++;
+            if (status == ChannelStatus.RECORDING) {
+                recordDetection(channel.getKey(), nowMillis);
+            }
+        });
+    }
+
+    private void recordDetection(String channelKey, long detectedMillis) {
+        LiveSchedule schedule = schedules.get(channelKey);
+        if (schedule == null) {
+            return;
+        }
+        long goLiveMillis = schedule.lastGoLive(detectedMillis / 1000) * 1000;
+        Long previous = detectedGoLives.put(channelKey, goLiveMillis);
+        if (previous != null && previous == goLiveMillis) {
+            return; // Recorder restart within the same live window
+        }
+        if (goLiveMillis < startMillis) {
+            // Went live before monitoring started, the delay says nothing about detection
+            alreadyLiveAtStart++;
+            return;
+        }
+        detectionLatencyMs.add(detectedMillis - goLiveMillis);
+    }
+
+    /**
+     * Periodic resource sample, printed as one line
+     */
+    private class Sampler implements Runnable {
+        private final MonitoringService monitoringService;
+        private final OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private long lastSpawns;
+
+        Sampler(MonitoringService monitoringService) {
+            this.monitoringService = monitoringService;
+        }
+
+        @Override
+        public void run() {
+            double processCpu = Math.max(0, os.getProcessCpuLoad()) * 100;
+            double systemCpu = Math.max(0, os.getCpuLoad()) * 100;
+            int threadCount = threads.getThreadCount();
+            long heapBytes = memory.getHeapMemoryUsage().getUsed();
+            long spawns = readCounterTotal("streamwarden_process_spawns_total");
+            long live = monitoringService.getActiveMonitors().values().stream()
+                .filter(monitor -> monitor.isRecording()).count();
+
+            cpuLoad.add(Math.round(processCpu));
+            systemCpuLoad.add(Math.round(systemCpu));
+            maxThreads = Math.max(maxThreads, threadCount);
+            maxHeapBytes = Math.max(maxHeapBytes, heapBytes);
+
+            System.out.printf("%8d %8.1f %8.1f %8d %10.1f %10.1f %8d %8d%n",
+                (System.currentTimeMillis() - startMillis) / 1000, processCpu, systemCpu, threadCount,
+                heapBytes / 1048576.0, (spawns - lastSpawns) / (double) SAMPLE_INTERVAL_SECONDS, live, uiLagMs.max());
+            lastSpawns = spawns;
+        }
+    }
+
+    private void report(double elapsedSeconds, long totalSpawns, long totalProbes) {
+        System.out.println();
+        System.out.println("=== Load test summary ===");
+        System.out.printf("Channels:             %d%n", channelCount);
+        System.out.printf("Duration:             %.0f s%n", elapsedSeconds);
+        System.out.printf("Probes:               %d (%.2f/s)%n", totalProbes, totalProbes / elapsedSeconds);
+        System.out.printf("Process spawns:       %d (%.2f/s)%n", totalSpawns, totalSpawns / elapsedSeconds);
+        System.out.printf("Process CPU:          avg %.0f%%, max %d%% (of all cores)%n", cpuLoad.mean(), cpuLoad.max());
+        System.out.printf("System CPU:           avg %.0f%%, max %d%% (includes the fake streamlink processes)%n",
+            systemCpuLoad.mean(), systemCpuLoad.max());
+        System.out.printf("Threads:              max %d%n", maxThreads);
+        System.out.printf("Heap:                 max %.1f MB%n", maxHeapBytes / 1048576.0);
+        System.out.printf("Status events:        %d%n", statusEvents);
+        System.out.printf("Detections:           %d (+%d already live at start)%n", detectionLatencyMs.count(), alreadyLiveAtStart);
+        System.out.printf("Detection latency:    p50 %d ms, p95 %d ms, max %d ms%n",
+            detectionLatencyMs.percentile(50), detectionLatencyMs.percentile(95), detectionLatencyMs.max());
+        System.out.printf("UI thread lag:        p50 %d ms, p99 %d ms, max %d ms%n",
+            uiLagMs.percentile(50), uiLagMs.percentile(99), uiLagMs.max());
+    }
+
+    /**
+     * Sum a counter over all its labels, read from the Prometheus export
+     */
+    private static long readCounterTotal(String name) {
+        long total = 0;
+        for (String line : MetricsRegistry.get().scrape().split("\n")) {
+            if (line.startsWith(name + "{") || line.startsWith(name + " ")) {
+                total += Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Thread-safe list of samples with percentiles, small enough for a load test run
+     */
+    private static final class Samples {
+        private final List<Long> values = new ArrayList<>();
+
+        synchronized void add(long value) {
+            values.add(value);
+        }
+
+        synchronized int count() {
+            return values.size();
+        }
+
+        synchronized long max() {
+            return values.isEmpty() ? 0 : Collections.max(values);
+        }
+
+        synchronized double mean() {
+            return values.stream().mapToLong(Long::longValue).average().orElse(0);
+        }
+
+        synchronized long percentile(int percent) {
+            if (values.isEmpty()) {
+                return 0;
+            }
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+        }
+    }
+}
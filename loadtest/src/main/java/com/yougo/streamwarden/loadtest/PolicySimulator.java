@@ -0,0 +1,175 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.loadtest;
+
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.FixedIntervalPolicy;
+import com.yougo.streamwarden.core.OfflineBackoffPolicy;
+import com.yougo.streamwarden.core.PollingPolicy;
+import com.yougo.streamwarden.core.RestartWatchPolicy;
+import com.yougo.streamwarden.metrics.Histogram;
+import com.yougo.streamwarden.metrics.MetricsRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Discrete-event simulation of the monitor polling loop on a virtual clock: replays synthetic go-live
+ * traces through each polling policy and reports probe counts, detection latency and missed minutes.
+ * Checks that cannot observe anything new (trace and policy delay both unchanged) are counted
+ * without being stepped through, so a year of 10k channels runs in seconds on one core.
+ * Percentiles are histogram bucket bounds, within 25% of the true value; the maximum is exact.
+ */
+public class PolicySimulator {
+
+    private static final long DAY_MS = 24 * 60 * 60 * 1000L;
+
+    private final int channelCount;
+    private final int days;
+    private final long baseIntervalMs;
+    private final long seed;
+
+    private final VirtualClock clock = new VirtualClock();
+    private final TraceProbe probe = new TraceProbe(clock);
+    private final Channel channel = new Channel("Twitch", "simulated", "https://simulation.invalid/", true, "best");
+
+    /**
+     * Totals of one policy over every channel
+     */
+    private static final class Result {
+        final PollingPolicy policy;
+        final Histogram latencyMs;
+        long probes;
+        long streams;
+        long detected;
+        long latencySumMs;
+        long latencyMaxMs;
+        long missedMs;
+
+        Result(PollingPolicy policy) {
+            this.policy = policy;
+            this.latencyMs = MetricsRegistry.get().histogram("streamwarden_simulated_detection_latency_seconds",
+                "Simulated delay between going live and the first live probe", DAY_MS, 1000.0,
+                "policy", policy.toString());
+        }
+    }
+
+    private PolicySimulator(Map<String, String> options) {
+        this.channelCount = Integer.parseInt(options.getOrDefault("channels", "10000"));
+        this.days = Integer.parseInt(options.getOrDefault("days", "365"));
+        this.baseIntervalMs = Long.parseLong(options.getOrDefault("interval", "60")) * 1000L;
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("-")) {
+                System.err.println("Unexpected argument: " + args[i]);
+                System.exit(2);
+            }
+            options.put(args[i].replaceFirst("^-+", ""), args[i + 1]);
+        }
+        new PolicySimulator(options).run(List.of(
+            new FixedIntervalPolicy(),
+            new OfflineBackoffPolicy(12 * 60 * 60 * 1000L, 8),
+            new RestartWatchPolicy(15 * 60 * 1000L, 15 * 1000L)));
+    }
+
+    private void run(List<PollingPolicy> policies) {
+        long horizonMs = days * DAY_MS;
+        System.out.printf("Simulation: %d channels, %d days, check interval %d s, seed %d%n",
+            channelCount, days, baseIntervalMs / 1000, seed);
+
+        long startNanos = System.nanoTime();
+        Result[] results = new Result[policies.size()];
+        for (int p = 0; p < results.length; p++) {
+            results[p] = new Result(policies.get(p));
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long liveMs = 0;
+        long streams = 0;
+        for (int i = 0; i < channelCount; i++) {
+            SyntheticTrace trace = SyntheticTrace.generate(random.split(), horizonMs);
+            liveMs += trace.totalLiveMs(horizonMs);
+            streams += trace.size();
+            for (Result result : results) {
+                simulate(trace, horizonMs, result);
+            }
+        }
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+
+        System.out.printf("Traces: %d streams, %.0f live hours, simulated in %d ms%n%n",
+            streams, liveMs / 3_600_000.0, elapsedMs);
+        System.out.printf("%-14s %14s %12s %9s %9s %9s %9s %9s %9s %12s %9s%n", "policy", "probes",
+            "probes/ch/d", "missed", "mean_s", "p50_s", "p95_s", "p99_s", "max_s", "missed_min", "missed_%");
+        double channelDays = (double) channelCount * days;
+        for (Result result : results) {
+            System.out.printf("%-14s %14d %12.1f %9d %9.1f %9s %9s %9s %9s %12d %9.3f%n",
+                result.policy, result.probes, result.probes / channelDays, result.streams - result.detected,
+                result.detected == 0 ? 0.0 : result.latencySumMs / 1000.0 / result.detected,
+                seconds(result.latencyMs.valueAtPercentile(50)), seconds(result.latencyMs.valueAtPercentile(95)),
+                seconds(result.latencyMs.valueAtPercentile(99)), seconds(result.latencyMaxMs),
+                result.missedMs / 60_000, liveMs == 0 ? 0.0 : 100.0 * result.missedMs / liveMs);
+        }
+    }
+
+    /**
+     * Run one channel's monitor loop over the whole trace. A recorder is assumed to follow its stream
+     * to the end, so everything between going live and the first live probe is missed.
+     */
+    private void simulate(SyntheticTrace trace, long horizonMs, Result result) {
+        PollingPolicy policy = result.policy;
+        clock.reset();
+        probe.replay(trace);
+
+        long now = 0;
+        long changedAt = 0;
+        boolean live = false;
+        int recordedStream = -1;
+        long recordedMs = 0;
+        while (now < horizonMs) {
+            clock.advanceTo(now);
+            boolean nowLive = probe.isLive(channel);
+            result.probes++;
+            if (nowLive != live) {
+                live = nowLive;
+                changedAt = now;
+            }
+            if (live && probe.currentStream() != recordedStream) {
+                recordedStream = probe.currentStream();
+                long latency = now - trace.starts[recordedStream];
+                result.latencyMs.record(latency);
+                result.latencySumMs += latency;
+                result.latencyMaxMs = Math.max(result.latencyMaxMs, latency);
+                result.detected++;
+                recordedMs += trace.ends[recordedStream] - now;
+            }
+
+            long sinceChange = now - changedAt;
+            long delay = Math.max(1, policy.nextCheckDelayMs(live, live, baseIntervalMs, sinceChange));
+            long stable = policy.stableForMs(live, live, baseIntervalMs, sinceChange);
+            long quiet = Math.min(probe.nextChangeMs(), horizonMs) - now;
+            // Checks before both the next trace change and the next policy change repeat this one
+            long repeats = Math.max(0, Math.min((stable - 1) / delay, (quiet - 1) / delay));
+            result.probes += repeats;
+            now += (repeats + 1) * delay;
+        }
+        result.streams += trace.size();
+        result.missedMs += trace.totalLiveMs(horizonMs) - recordedMs;
+    }
+
+    private static String seconds(long ms) {
+        return ms == Long.MAX_VALUE ? "+Inf" : String.format("%.0f", ms / 1000.0);
+    }
+}
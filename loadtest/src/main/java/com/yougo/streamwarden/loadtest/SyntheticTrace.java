@@ -0,0 +1,100 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Go-live history of one synthetic channel: sorted, non-overlapping [start, end) intervals in ms.
+ * Channels stream a log-normally distributed number of times per week, most of them around their
+ * own usual hour, streams last a couple of hours and some drop for a few minutes and come back.
+ */
+final class SyntheticTrace {
+
+    private static final long MINUTE_MS = 60 * 1000L;
+    private static final long DAY_MS = 24 * 60 * MINUTE_MS;
+    private static final long WEEK_MS = 7 * DAY_MS;
+
+    final long[] starts;
+    final long[] ends;
+
+    private SyntheticTrace(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    static SyntheticTrace generate(SplittableRandom random, long horizonMs) {
+        double streamsPerWeek = clamp(Math.exp(Math.log(3) + 1.2 * gaussian(random)), 0.02, 14);
+        long usualStartMs = (long) ((18 + 3 * gaussian(random)) * 60 * MINUTE_MS);
+        double regularity = random.nextDouble();
+
+        long[] starts = new long[16];
+        long[] ends = new long[16];
+        int count = 0;
+        long previousEnd = -(long) (random.nextDouble() * WEEK_MS);
+        while (true) {
+            long start = previousEnd + (long) (-Math.log(1 - random.nextDouble()) * WEEK_MS / streamsPerWeek);
+            if (random.nextDouble() < regularity) {
+                long day = Math.floorDiv(start, DAY_MS);
+                start = day * DAY_MS + Math.floorMod(usualStartMs + (long) (20 * MINUTE_MS * gaussian(random)), DAY_MS);
+            }
+            start = Math.max(start, Math.max(0, previousEnd + 10 * MINUTE_MS));
+            long duration = (long) clamp(Math.exp(Math.log(150) + 0.5 * gaussian(random)), 5, 12 * 60) * MINUTE_MS;
+            long end = start + duration;
+            if (end > horizonMs) {
+                break;
+            }
+
+            if (count + 2 > starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            if (random.nextDouble() < 0.15 && duration > 20 * MINUTE_MS) {
+                // Dropped stream: goes offline for 1-10 minutes and continues
+                long dropAt = start + (long) (duration * (0.1 + 0.8 * random.nextDouble()));
+                long outage = (1 + random.nextInt(10)) * MINUTE_MS;
+                starts[count] = start;
+                ends[count++] = dropAt;
+                starts[count] = dropAt + outage;
+                ends[count++] = end + outage;
+                end += outage;
+            } else {
+                starts[count] = start;
+                ends[count++] = end;
+            }
+            previousEnd = end;
+        }
+        return new SyntheticTrace(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    int size() {
+        return starts.length;
+    }
+
+    long totalLiveMs(long horizonMs) {
+        long total = 0;
+        for (int i = 0; i < starts.length; i++) {
+            total += Math.min(ends[i], horizonMs) - starts[i];
+        }
+        return total;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller, SplittableRandom has no nextGaussian on Java 17
+        double u = 1 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,60 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.loadtest;
+
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.StreamProbe;
+
+/**
+ * Answers probes from a synthetic trace at the virtual clock's current time.
+ * Probes must come in non-decreasing time order, the cursor only moves forward.
+ */
+final class TraceProbe implements StreamProbe {
+
+    private final VirtualClock clock;
+    private SyntheticTrace trace;
+    private int cursor;
+
+    TraceProbe(VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    void replay(SyntheticTrace trace) {
+        this.trace = trace;
+        this.cursor = 0;
+    }
+
+    @Override
+    public boolean isLive(Channel channel) {
+        long now = clock.millis();
+        while (cursor < trace.size() && trace.ends[cursor] <= now) {
+            cursor++;
+        }
+        return cursor < trace.size() && trace.starts[cursor] <= now;
+    }
+
+    /**
+     * Index of the stream seen by the last probe, only meaningful if it returned true
+     */
+    int currentStream() {
+        return cursor;
+    }
+
+    /**
+     * Time of the next go-live or go-offline after the last probe
+     */
+    long nextChangeMs() {
+        if (cursor >= trace.size()) {
+            return Long.MAX_VALUE;
+        }
+        return trace.starts[cursor] <= clock.millis() ? trace.ends[cursor] : trace.starts[cursor];
+    }
+}
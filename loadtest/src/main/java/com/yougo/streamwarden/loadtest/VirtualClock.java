@@ -0,0 +1,41 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.loadtest;
+
+import com.yougo.streamwarden.core.TimeSource;
+
+/**
+ * Simulated time, only moves when the simulator advances it
+ */
+final class VirtualClock implements TimeSource {
+
+    private long nowMs;
+
+    void advanceTo(long timeMs) {
+        if (timeMs < nowMs) {
+            throw new IllegalArgumentException("Virtual time cannot go backwards");
+        }
+        nowMs = timeMs;
+    }
+
+    void reset() {
+        nowMs = 0;
+    }
+
+    long millis() {
+        return nowMs;
+    }
+
+    @Override
+    public long nanoTime() {
+        return nowMs * 1_000_000L;
+    }
+}
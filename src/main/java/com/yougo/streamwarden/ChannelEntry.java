@@ -10,8 +10,17 @@
 
 package com.yougo.streamwarden;
 
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.ChannelStatus;
+import com.yougo.streamwarden.core.RecordingProfile;
 import javafx.beans.property.*;
 
+import java.util.List;
+
+/**
+ * Table row adapter for a core Channel, exposes its fields as JavaFX properties.
+ * Only used on the JavaFX thread; the monitoring engine works on Channel.
+ */
 public class ChannelEntry {
     private final StringProperty platform;
     private final StringProperty channelName;
@@ -19,15 +28,56 @@ public class ChannelEntry {
     private final BooleanProperty isActive;
     private final StringProperty status;
     private final StringProperty quality;
+    private final ObjectProperty<RecordingProfile> recordingProfile;
+    private final ObjectProperty<List<String>> extraQualities;
     
     public ChannelEntry(String platform, String channelName, String channelUrl, 
                        boolean isActive, String status, String quality) {
+        this(platform, channelName, channelUrl, isActive, status, quality, RecordingProfile.EMPTY, List.of());
+    }
+    
+    public ChannelEntry(String platform, String channelName, String channelUrl, 
+                       boolean isActive, String status, String quality, RecordingProfile recordingProfile,
+                       List<String> extraQualities) {
         this.platform = new SimpleStringProperty(platform);
         this.channelName = new SimpleStringProperty(channelName);
         this.channelUrl = new SimpleStringProperty(channelUrl);
         this.isActive = new SimpleBooleanProperty(isActive);
         this.status = new SimpleStringProperty(status);
         this.quality = new SimpleStringProperty(quality);
+        this.recordingProfile = new SimpleObjectProperty<>(recordingProfile);
+        this.extraQualities = new SimpleObjectProperty<>(extraQualities);
+    }
+    
+    public ChannelEntry(Channel channel, ChannelStatus status) {
+        this(channel.getPlatform(), channel.getChannelName(), channel.getChannelUrl(),
+            channel.isActive(), status.getDisplayName(), channel.getQuality(), channel.getRecordingProfile(),
+            channel.getExtraQualities());
+    }
+    
+    /**
+     * Snapshot of this row as a core channel
+     */
+    public Channel toChannel() {
+        return new Channel(getPlatform(), getChannelName(), getChannelUrl(), getIsActive(), getQuality(), getRecordingProfile(),
+            getExtraQualities());
+    }
+    
+    /**
+     * Take over every field of a channel, the status is left as is
+     */
+    public void update(Channel channel) {
+        setPlatform(channel.getPlatform());
+        setChannelName(channel.getChannelName());
+        setChannelUrl(channel.getChannelUrl());
+        setIsActive(channel.isActive());
+        setQuality(channel.getQuality());
+        setRecordingProfile(channel.getRecordingProfile());
+        setExtraQualities(channel.getExtraQualities());
+    }
+    
+    public String getKey() {
+        return Channel.keyOf(getPlatform(), getChannelName());
     }
     
     // Platform property
@@ -53,10 +103,21 @@ public class ChannelEntry {
     // Status property
     public String getStatus() { return status.get(); }
     public void setStatus(String status) { this.status.set(status); }
+    public void setStatus(ChannelStatus status) { this.status.set(status.getDisplayName()); }
     public StringProperty statusProperty() { return status; }
     
     // Quality property
     public String getQuality() { return quality.get(); }
     public void setQuality(String quality) { this.quality.set(quality); }
     public StringProperty qualityProperty() { return quality; }
+    
+    // Recording profile property (channel overrides)
+    public RecordingProfile getRecordingProfile() { return recordingProfile.get(); }
+    public void setRecordingProfile(RecordingProfile recordingProfile) { this.recordingProfile.set(recordingProfile); }
+    public ObjectProperty<RecordingProfile> recordingProfileProperty() { return recordingProfile; }
+    
+    // Extra output qualities property
+    public List<String> getExtraQualities() { return extraQualities.get(); }
+    public void setExtraQualities(List<String> extraQualities) { this.extraQualities.set(extraQualities); }
+    public ObjectProperty<List<String>> extraQualitiesProperty() { return extraQualities; }
 }
\ No newline at end of file
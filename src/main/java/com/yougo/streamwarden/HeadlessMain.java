@@ -0,0 +1,132 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden;
+
+import com.yougo.streamwarden.api.ApiServer;
+import com.yougo.streamwarden.config.AppSettings;
+import com.yougo.streamwarden.config.ChannelConfig;
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.MonitoringService;
+import com.yougo.streamwarden.jfr.FlightRecording;
+import com.yougo.streamwarden.logging.LogEntry;
+import com.yougo.streamwarden.logging.LogService;
+import com.yougo.streamwarden.metrics.MetricsServer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Headless daemon: runs the monitoring engine from the saved settings and channels without
+ * any JavaFX runtime. Stops gracefully on SIGTERM/SIGINT through a JVM shutdown hook.
+ */
+public class HeadlessMain {
+
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private MonitoringService monitoringService;
+    private ApiServer apiServer;
+    private MetricsServer metricsServer;
+
+    public static void main(String[] args) {
+        new HeadlessMain().run();
+    }
+
+    private void run() {
+        StartupTimer startupTimer = new StartupTimer();
+
+        AppSettings settings = startupTimer.time("settings", AppSettings::load);
+        LogService.get().configure(settings.getLogLevel(), settings.isConsoleLogging(),
+            settings.getLogMaxFileSizeMB(), settings.getLogMaxFiles());
+        LogService.get().info("[System] Starting StreamWarden in headless mode");
+
+        startupTimer.time("jfr", () -> FlightRecording.configure(settings.isFlightRecorderEnabled(),
+            settings.getFlightRecorderMaxAgeMinutes(), settings.getFlightRecorderMaxSizeMB()));
+        monitoringService = new MonitoringService(settings);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "ShutdownHook"));
+
+        startupTimer.time("toolchain", AppSettings::detectStreamlink);
+        if (!settings.isKickSupported()) {
+            LogService.get().warn(String.format("[System] Streamlink %s does not support Kick (7.3.0 or higher required)",
+                settings.getStreamlinkVersion()));
+        }
+
+        List<Channel> channels = startupTimer.time("channels", () -> ChannelConfig.toChannels(ChannelConfig.loadChannels()));
+        monitoringService.loadChannels(channels);
+        startupTimer.time("recovery", monitoringService::initialize);
+
+        startupTimer.time("monitors", () -> {
+            if (settings.isAutoStartMonitoring()) {
+                monitoringService.startAllActiveChannels();
+            }
+            monitoringService.cleanupOrphanedRecordings();
+        });
+
+        if (settings.isApiEnabled()) {
+            startupTimer.time("api", () -> startApi(settings));
+        }
+        if (settings.isMetricsEnabled()) {
+            startupTimer.time("metrics", () -> startMetrics(settings));
+        }
+
+        long elapsedMs = startupTimer.elapsedMs();
+        LogService.get().log(LogEntry.system(LogEntry.Level.INFO, LogEntry.EventType.STARTUP,
+            String.format("[System] Headless startup completed in %d ms, %d channel(s), %d monitored (%s)",
+                elapsedMs, channels.size(), monitoringService.getActiveMonitors().size(), startupTimer.summary()),
+            elapsedMs));
+
+        // Monitor threads are daemons, keep the JVM alive until a signal triggers the shutdown hook
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void startApi(AppSettings settings) {
+        try {
+            apiServer = new ApiServer(monitoringService, settings);
+            apiServer.start();
+        } catch (IOException e) {
+            LogService.get().error("[System] Could not start the HTTP API: " + e.getMessage());
+        }
+    }
+
+    private void startMetrics(AppSettings settings) {
+        try {
+            metricsServer = new MetricsServer(settings.getMetricsBindAddress(), settings.getMetricsPort());
+            metricsServer.start();
+        } catch (IOException e) {
+            LogService.get().error("[System] Could not start the metrics endpoint: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop all recordings and write pending state, runs on the shutdown hook thread
+     */
+    private void shutdown() {
+        LogService.get().info("[System] Shutdown signal received");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (metricsServer != null) {
+            metricsServer.stop();
+        }
+        try {
+            monitoringService.shutdown((channelKey, outcome, done, total) ->
+                LogService.get().info(String.format("[System] Stopped %s: %s (%d/%d)", channelKey, outcome, done, total)));
+        } finally {
+            ChannelConfig.flush();
+            AppSettings.flush();
+            LogService.get().shutdown();
+            stopped.countDown();
+        }
+    }
+}
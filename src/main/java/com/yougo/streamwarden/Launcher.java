@@ -0,0 +1,30 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden;
+
+import java.util.Arrays;
+
+/**
+ * Entry point choosing between the desktop application and the headless daemon.
+ * Does not extend Application, so the headless path never loads JavaFX classes.
+ */
+public class Launcher {
+
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HEADLESS_FLAG)) {
+            HeadlessMain.main(args);
+        } else {
+            Main.main(args);
+        }
+    }
+}
@@ -10,20 +10,42 @@
 
 package com.yougo.streamwarden;
 
+import com.yougo.streamwarden.api.ApiServer;
 import com.yougo.streamwarden.config.AppSettings;
 import com.yougo.streamwarden.config.ChannelConfig;
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.ChannelStatus;
 import com.yougo.streamwarden.core.MonitoringService;
 import com.yougo.streamwarden.core.StreamMonitor;
+import com.yougo.streamwarden.jfr.FlightRecording;
+import com.yougo.streamwarden.logging.LogEntry;
+import com.yougo.streamwarden.logging.LogService;
+import com.yougo.streamwarden.metrics.MetricsServer;
+import com.yougo.streamwarden.ui.ActivityLogView;
 import com.yougo.streamwarden.ui.AddChannelDialog;
+import com.yougo.streamwarden.ui.PlatformIcons;
 import com.yougo.streamwarden.ui.SettingsDialog;
+import com.yougo.streamwarden.ui.StatusUpdateCoalescer;
 import com.yougo.streamwarden.ui.TraySupport;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
@@ -32,7 +54,6 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SeparatorMenuItem;
@@ -52,57 +73,110 @@ public class Main extends Application {
     
     private TableView<ChannelEntry> channelTable;
     private ObservableList<ChannelEntry> channelList;
-    private TextArea logArea;
-    private Label logLabel;
+    private final Map<String, ChannelEntry> rowsByKey = new HashMap<>(); // Table rows by channel key, FX thread only
+    private ActivityLogView activityLog;
     private CheckBox showLogsCheckBox;
     private MonitoringService monitoringService;
+    private ApiServer apiServer;
+    private MetricsServer metricsServer;
+    private final StatusUpdateCoalescer statusUpdateCoalescer = new StatusUpdateCoalescer(rowsByKey::get);
     private AppSettings appSettings;
     private final AtomicBoolean shuttingDown = new AtomicBoolean(false);
+    
+    // Startup work running in the background while the window is already shown
+    private static final int STARTUP_STEPS = 3;
+    private final ExecutorService startupExecutor = Executors.newFixedThreadPool(3, r -> {
+        Thread t = new Thread(r);
+        t.setDaemon(true);
+        t.setName("Startup-" + t.getId());
+        return t;
+    });
+    private final BooleanProperty startupComplete = new SimpleBooleanProperty(false);
+    
+    // Removing or editing a recording channel waits for its recorder to stop, kept off the JavaFX thread in order
+    private final ExecutorService channelExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r);
+        t.setDaemon(true);
+        t.setName("ChannelChanges");
+        return t;
+    });
+    private ProgressBar startupProgress;
+    private Label startupLabel;
+    private int startupStepsDone = 0;
 
     @Override
     public void start(Stage primaryStage) {
+        StartupTimer startupTimer = new StartupTimer();
         primaryStage.setTitle("StreamWarden");
         
-        // Load settings
-        appSettings = AppSettings.load();
+        // Load settings (a single small file, needed to build the layout)
+        appSettings = startupTimer.time("settings", AppSettings::load);
+        configureLogging();
         
-        // Check Streamlink version and show alert if Kick is not supported
-        checkStreamlinkVersion();
-        
-        // Initialize monitoring service
+        // Initialize monitoring service, state recovery runs in the background below
         monitoringService = new MonitoringService(appSettings);
-        monitoringService.setStatusCallback(new StreamMonitor.StatusCallback() {
+        monitoringService.addStatusListener(new StreamMonitor.StatusCallback() {
             @Override
-            public void onStatusChanged(ChannelEntry channel, String status) {
-                // Status is already updated in the channel entry via Platform.runLater in StreamMonitor
-                channelTable.refresh();
-            }
-            
-            @Override
-            public void onLogMessage(String message) {
-                logArea.appendText(message + "\n");
+            public void onStatusChanged(Channel channel, ChannelStatus status) {
+                // Called from monitor threads: batched and applied to the bound table cells at a bounded rate
+                statusUpdateCoalescer.submit(channel.getKey(), status);
             }
         });
         
-        // Create main layout
-        BorderPane root = new BorderPane();
+        // Channels can also be changed through the API, keep the table in sync
+        monitoringService.addChannelListener(() -> Platform.runLater(this::syncRowsWithChannels));
         
-        // Create top toolbar
-        HBox toolbar = createToolbar();
-        root.setTop(toolbar);
+        // Toolchain detection, channel loading and recovery are independent, run them in parallel.
+        // The flight recording (if enabled) starts first so it also covers the first probes.
+        CompletableFuture<Void> toolchain = CompletableFuture.runAsync(() -> {
+            startupTimer.time("jfr", this::configureFlightRecording);
+            startupTimer.time("toolchain", AppSettings::detectStreamlink);
+        }, startupExecutor);
+        CompletableFuture<List<Channel>> channels = CompletableFuture.supplyAsync(() -> startupTimer.time("channels", () -> {
+            List<Channel> savedChannels = ChannelConfig.toChannels(ChannelConfig.loadChannels());
+            monitoringService.loadChannels(savedChannels);
+            return savedChannels;
+        }), startupExecutor);
+        CompletableFuture<Void> recovery = CompletableFuture.runAsync(
+            () -> startupTimer.time("recovery", monitoringService::initialize), startupExecutor);
         
-        // Create center content (table + logs)
-        VBox centerContent = createCenterContent();
-        root.setCenter(centerContent);
+        startupTimer.time("ui", () -> {
+            // Decode platform icons once, table cells reuse the cached images
+            PlatformIcons.preload();
+            
+            // Create main layout
+            BorderPane root = new BorderPane();
+            
+            // Create top toolbar
+            HBox toolbar = createToolbar();
+            root.setTop(toolbar);
+            
+            // Create center content (table + logs)
+            VBox centerContent = createCenterContent();
+            root.setCenter(centerContent);
+            
+            // Create scene
+            Scene scene = new Scene(root, 1000, 700);
+            primaryStage.setScene(scene);
+            primaryStage.show();
+        });
+        startupTimer.mark("shown");
         
-        // Load saved channels and start monitoring
-        loadChannelsFromConfig();
-        startAutoMonitoring();
+        // Check Streamlink version and show alert if Kick is not supported
+        toolchain.thenRunAsync(() -> {
+            advanceStartup("Streamlink " + appSettings.getStreamlinkVersion() + " detected");
+            checkStreamlinkVersion();
+        }, Platform::runLater);
+        recovery.thenRunAsync(() -> advanceStartup("Recovered previous session"), Platform::runLater);
         
-        // Create scene
-        Scene scene = new Scene(root, 1000, 700);
-        primaryStage.setScene(scene);
-        primaryStage.show();
+        // Show saved channels, then start monitoring once recovery is done so orphans can be adopted
+        channels.thenAcceptAsync(savedChannels -> {
+                syncRowsWithChannels();
+                advanceStartup("Loaded " + savedChannels.size() + " channel(s)");
+            }, Platform::runLater)
+            .thenCombine(recovery, (loaded, recovered) -> null)
+            .thenRunAsync(() -> startupTimer.time("monitors", this::startAutoMonitoring), startupExecutor)
+            .whenComplete((ignored, error) -> Platform.runLater(() -> finishStartup(startupTimer, error)));
         
         // Shutdown monitoring service when closing (via window close button)
         primaryStage.setOnCloseRequest(e -> {
@@ -153,6 +227,17 @@ public class Main extends Application {
         removeChannelBtn.setOnAction(e -> removeSelectedChannel());
         supportBtn.setOnAction(e -> showSupportDialog());
 
+        // Channel actions need the saved channels and the monitoring service to be ready
+        addChannelBtn.disableProperty().bind(startupComplete.not());
+        editChannelBtn.disableProperty().bind(startupComplete.not());
+        removeChannelBtn.disableProperty().bind(startupComplete.not());
+        
+        // Startup progress, hidden once background initialization is done
+        startupProgress = new ProgressBar(0);
+        startupProgress.setPrefWidth(120);
+        startupLabel = new Label("Starting...");
+        startupLabel.setStyle("-fx-font-size: 11px; -fx-text-fill: #666;");
+        
         // Create spacer to push support button to the right
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
@@ -164,6 +249,8 @@ public class Main extends Application {
             new Separator(), 
             settingsBtn,
             spacer,
+            startupLabel,
+            startupProgress,
             supportBtn
         );
         return toolbar;
@@ -177,13 +264,9 @@ public class Main extends Application {
         channelTable = createChannelTable();
         VBox.setVgrow(channelTable, Priority.ALWAYS); // Make table grow to fill available space
         
-        // Log area
-        logLabel = new Label("Activity Logs:");
-        logArea = new TextArea();
-        logArea.setEditable(false);
-        logArea.setPrefRowCount(8);
-        logArea.setWrapText(true);
-        logArea.setStyle("-fx-font-family: monospace;");
+        // Log view, fed by the log writer thread and batched per pulse
+        activityLog = new ActivityLogView();
+        LogService.get().subscribe(activityLog::append);
         
         // Create log controls container
         HBox logControls = createLogControls();
@@ -192,7 +275,7 @@ public class Main extends Application {
         
         // Add log components if enabled
         if (appSettings.isShowActivityLogs()) {
-            centerContent.getChildren().addAll(logLabel, logArea);
+            centerContent.getChildren().add(activityLog);
             VBox.setVgrow(channelTable, Priority.SOMETIMES);
         }
         
@@ -217,7 +300,7 @@ public class Main extends Application {
         
         // Clear logs button
         Button clearLogsBtn = new Button("Clear Logs");
-        clearLogsBtn.setOnAction(e -> logArea.clear());
+        clearLogsBtn.setOnAction(e -> activityLog.clear());
         
         // Only show clear button if logs are visible
         if (appSettings.isShowActivityLogs()) {
@@ -243,8 +326,8 @@ public class Main extends Application {
         
         if (showLogs) {
             // Add log components if not already present
-            if (!centerContent.getChildren().contains(logLabel)) {
-                centerContent.getChildren().addAll(logLabel, logArea);
+            if (!centerContent.getChildren().contains(activityLog)) {
+                centerContent.getChildren().add(activityLog);
                 VBox.setVgrow(channelTable, Priority.SOMETIMES);
             }
             
@@ -254,13 +337,13 @@ public class Main extends Application {
                 HBox.setHgrow(spacer, Priority.ALWAYS);
                 
                 Button clearLogsBtn = new Button("Clear Logs");
-                clearLogsBtn.setOnAction(e -> logArea.clear());
+                clearLogsBtn.setOnAction(e -> activityLog.clear());
                 
                 logControls.getChildren().addAll(spacer, clearLogsBtn);
             }
         } else {
             // Remove log components
-            centerContent.getChildren().removeAll(logLabel, logArea);
+            centerContent.getChildren().remove(activityLog);
             VBox.setVgrow(channelTable, Priority.ALWAYS);
             
             // Remove only clear button and spacer from log controls (keep checkbox)
@@ -278,12 +361,15 @@ public class Main extends Application {
         
         // Create columns
         TableColumn<ChannelEntry, String> platformCol = new TableColumn<>("Platform");
-        platformCol.setCellValueFactory(new PropertyValueFactory<>("platform"));
+        platformCol.setCellValueFactory(cellData -> cellData.getValue().platformProperty());
         platformCol.setPrefWidth(80);
         
         // Custom cell factory for platform column to display icons
         platformCol.setCellFactory(column -> {
             return new TableCell<ChannelEntry, String>() {
+                // One view per cell, only its image changes when the cell is reused
+                private final ImageView iconView = new ImageView();
+                
                 @Override
                 protected void updateItem(String platform, boolean empty) {
                     super.updateItem(platform, empty);
@@ -294,18 +380,20 @@ public class Main extends Application {
                         return;
                     }
                     
-                    // Load platform icon
-                    ImageView icon = loadPlatformIcon(platform);
+                    // Get cached platform icon
+                    Image icon = PlatformIcons.get(platform, PlatformIcons.TABLE_SIZE);
                     if (icon != null) {
+                        iconView.setImage(icon);
                         setText(""); // Remove text, show only icon
-                        setGraphic(icon);
+                        setGraphic(iconView);
                         
                         // Center the icon in the cell
                         setAlignment(Pos.CENTER);
                         
                         // Add tooltip with platform name for accessibility
-                        Tooltip tooltip = new Tooltip(platform);
-                        setTooltip(tooltip);
+                        if (getTooltip() == null || !platform.equals(getTooltip().getText())) {
+                            setTooltip(new Tooltip(platform));
+                        }
                     } else {
                         // Fallback to text if icon can't be loaded
                         setText(platform);
@@ -317,19 +405,19 @@ public class Main extends Application {
         });
         
         TableColumn<ChannelEntry, String> nameCol = new TableColumn<>("Channel Name");
-        nameCol.setCellValueFactory(new PropertyValueFactory<>("channelName"));
+        nameCol.setCellValueFactory(cellData -> cellData.getValue().channelNameProperty());
         nameCol.setPrefWidth(150);
         
         TableColumn<ChannelEntry, String> urlCol = new TableColumn<>("Channel URL");
-        urlCol.setCellValueFactory(new PropertyValueFactory<>("channelUrl"));
+        urlCol.setCellValueFactory(cellData -> cellData.getValue().channelUrlProperty());
         urlCol.setPrefWidth(250);
         
         TableColumn<ChannelEntry, Boolean> activeCol = new TableColumn<>("Active");
-        activeCol.setCellValueFactory(new PropertyValueFactory<>("isActive"));
+        activeCol.setCellValueFactory(cellData -> cellData.getValue().isActiveProperty());
         activeCol.setPrefWidth(60);
         
         TableColumn<ChannelEntry, String> statusCol = new TableColumn<>("Status");
-        statusCol.setCellValueFactory(new PropertyValueFactory<>("status"));
+        statusCol.setCellValueFactory(cellData -> cellData.getValue().statusProperty());
         statusCol.setPrefWidth(100);
         
         // Custom cell factory for status column with colors
@@ -362,6 +450,9 @@ public class Main extends Application {
                             case "Offline":
                                 setStyle("-fx-text-fill: #e74c3c;");
                                 break;
+                            case "Scheduled":
+                                setStyle("-fx-text-fill: #f39c12;");
+                                break;
                             default:
                                 setStyle("");
                                 break;
@@ -372,7 +463,7 @@ public class Main extends Application {
         });
         
         TableColumn<ChannelEntry, String> qualityCol = new TableColumn<>("Quality");
-        qualityCol.setCellValueFactory(new PropertyValueFactory<>("quality"));
+        qualityCol.setCellValueFactory(cellData -> cellData.getValue().qualityProperty());
         qualityCol.setPrefWidth(80);
         
         // Add columns to table
@@ -496,15 +587,15 @@ public class Main extends Application {
                     
                     // Log success on JavaFX thread
                     Platform.runLater(() -> {
-                        logArea.appendText(String.format("[System] Opened %s: %s in browser\n", 
-                            channel.getPlatform(), channel.getChannelName()));
+                        LogService.get().log(LogEntry.system(LogEntry.Level.INFO, String.format("[System] Opened %s: %s in browser", 
+                            channel.getPlatform(), channel.getChannelName())));
                     });
                     
                 } catch (Exception e) {
                     Platform.runLater(() -> {
                         showBrowserError("Failed to open browser: " + e.getMessage());
-                        logArea.appendText(String.format("[System] Error opening browser for %s: %s - %s\n", 
-                            channel.getPlatform(), channel.getChannelName(), e.getMessage()));
+                        LogService.get().log(LogEntry.system(LogEntry.Level.ERROR, String.format("[System] Error opening browser for %s: %s - %s", 
+                            channel.getPlatform(), channel.getChannelName(), e.getMessage())));
                     });
                 }
                 return null;
@@ -529,43 +620,104 @@ public class Main extends Application {
     }
     
     /**
-     * Load channels from JSON configuration file
+     * Advance the startup progress shown in the toolbar, runs on the JavaFX thread
      */
-    private void loadChannelsFromConfig() {
-        var channelDataList = ChannelConfig.loadChannels();
-        var loadedChannels = ChannelConfig.toObservableList(channelDataList);
-        channelList.addAll(loadedChannels);
+    private void advanceStartup(String message) {
+        startupStepsDone++;
+        startupProgress.setProgress((double) startupStepsDone / STARTUP_STEPS);
+        startupLabel.setText(message);
     }
     
     /**
-     * Save current channels to JSON configuration file
+     * Unlock the channel actions and log the startup timing breakdown, runs on the JavaFX thread
      */
-    private void saveChannelsToConfig() {
-        var channelDataList = ChannelConfig.fromObservableList(channelList);
-        ChannelConfig.saveChannels(channelDataList);
+    private void finishStartup(StartupTimer startupTimer, Throwable error) {
+        startupExecutor.shutdown();
+        startupComplete.set(true);
+        startupProgress.setVisible(false);
+        startupLabel.setVisible(false);
+        
+        if (error != null) {
+            LogService.get().error("[System] Startup failed: " + error.getMessage());
+        }
+        if (appSettings.isApiEnabled()) {
+            startApi();
+        }
+        if (appSettings.isMetricsEnabled()) {
+            startMetrics();
+        }
+        long elapsedMs = startupTimer.elapsedMs();
+        LogService.get().log(LogEntry.system(LogEntry.Level.INFO, LogEntry.EventType.STARTUP, 
+            String.format("[System] Startup completed in %d ms (%s)", elapsedMs, startupTimer.summary()), elapsedMs));
+    }
+    
+    private void startApi() {
+        try {
+            apiServer = new ApiServer(monitoringService, appSettings);
+            apiServer.start();
+        } catch (IOException e) {
+            LogService.get().error("[System] Could not start the HTTP API: " + e.getMessage());
+        }
+    }
+    
+    private void startMetrics() {
+        try {
+            metricsServer = new MetricsServer(appSettings.getMetricsBindAddress(), appSettings.getMetricsPort());
+            metricsServer.start();
+        } catch (IOException e) {
+            LogService.get().error("[System] Could not start the metrics endpoint: " + e.getMessage());
+        }
     }
     
     /**
-     * Start monitoring for all active channels
+     * Reconcile table rows with the channels of the monitoring service, runs on the JavaFX thread.
+     * Rows already matching their channel are left untouched.
+     */
+    private void syncRowsWithChannels() {
+        Set<String> keys = new HashSet<>();
+        List<ChannelEntry> addedRows = new ArrayList<>();
+        for (Channel channel : monitoringService.getChannels()) {
+            String key = channel.getKey();
+            keys.add(key);
+            ChannelEntry row = rowsByKey.get(key);
+            if (row == null) {
+                row = new ChannelEntry(channel, monitoringService.getStatus(key));
+                rowsByKey.put(key, row);
+                addedRows.add(row);
+            } else if (!channel.equals(row.toChannel())) {
+                row.update(channel);
+            }
+        }
+        channelList.addAll(addedRows);
+        if (rowsByKey.keySet().retainAll(keys)) {
+            channelList.removeIf(row -> !keys.contains(row.getKey()));
+        }
+    }
+    
+    /**
+     * Start monitoring for all active channels, runs in the background
      */
     private void startAutoMonitoring() {
         if (appSettings.isAutoStartMonitoring()) {
-            monitoringService.startAllActiveChannels(channelList);
-            logArea.appendText("[System] Auto-monitoring started for active channels\n");
+            monitoringService.startAllActiveChannels();
+            LogService.get().log(LogEntry.system(LogEntry.Level.INFO, "[System] Auto-monitoring started for active channels"));
         }
+        
+        // Recorders left by a previous session for removed or inactive channels
+        monitoringService.cleanupOrphanedRecordings();
     }
     
     private void showAddChannelDialog() {
         Optional<ChannelEntry> result = AddChannelDialog.showDialog();
         result.ifPresent(channelEntry -> {
             channelList.add(channelEntry);
-            saveChannelsToConfig();
+            rowsByKey.put(channelEntry.getKey(), channelEntry);
             
-            // If the new channel is active, start monitoring it immediately
+            // Saved by the monitoring service, which also starts monitoring active channels immediately
+            monitoringService.addChannel(channelEntry.toChannel());
             if (channelEntry.getIsActive()) {
-                monitoringService.startMonitoring(channelEntry);
-                logArea.appendText(String.format("[System] Started monitoring %s: %s\n", 
-                    channelEntry.getPlatform(), channelEntry.getChannelName()));
+                LogService.get().log(LogEntry.system(LogEntry.Level.INFO, String.format("[System] Started monitoring %s: %s", 
+                    channelEntry.getPlatform(), channelEntry.getChannelName())));
             }
         });
     }
@@ -589,6 +741,12 @@ public class Main extends Application {
         if (!shuttingDown.compareAndSet(false, true)) {
             return; // Shutdown already in progress
         }
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (metricsServer != null) {
+            metricsServer.stop();
+        }
         // Remove tray icon so the user cannot reopen during shutdown
         TraySupport.uninstall();
         // Ensure JavaFX will stop once last window closes
@@ -601,16 +759,30 @@ public class Main extends Application {
             }
             // Exit JavaFX and then the JVM to kill any non-daemon threads (AWT, stream watchers, etc.)
             Platform.exit();
+            ChannelConfig.flush();
+            AppSettings.flush();
+            LogService.get().shutdown();
             System.exit(0);
         });
     }
 
+    private void configureLogging() {
+        LogService.get().configure(appSettings.getLogLevel(), appSettings.isConsoleLogging(),
+            appSettings.getLogMaxFileSizeMB(), appSettings.getLogMaxFiles());
+    }
+
+    private void configureFlightRecording() {
+        FlightRecording.configure(appSettings.isFlightRecorderEnabled(),
+            appSettings.getFlightRecorderMaxAgeMinutes(), appSettings.getFlightRecorderMaxSizeMB());
+    }
+
     private void showSettingsDialog() {
         boolean settingsChanged = SettingsDialog.showDialog();
         if (settingsChanged) {
-            // Reload settings in case they changed
-            appSettings = AppSettings.load();
-            logArea.appendText("[System] Settings updated successfully\n");
+            // The dialog edits the shared settings, running monitors already see the new values
+            configureLogging();
+            configureFlightRecording();
+            LogService.get().log(LogEntry.system(LogEntry.Level.INFO, "[System] Settings updated successfully"));
 
             // Re-apply tray behavior based on new setting
             updateTrayIntegration((Stage) channelTable.getScene().getWindow());
@@ -644,17 +816,21 @@ public class Main extends Application {
             if (result.isPresent() && result.get() == removeButton) {
                 // User confirmed removal
                 // Stop monitoring if it's currently being monitored
-                if (monitoringService.isMonitoring(selected)) {
-                    monitoringService.stopMonitoring(selected);
-                    logArea.appendText(String.format("[System] Stopped monitoring %s: %s\n", 
-                        selected.getPlatform(), selected.getChannelName()));
-                }
-                
-                channelList.remove(selected);
-                saveChannelsToConfig();
-                
-                logArea.appendText(String.format("[System] Removed channel %s: %s\n", 
-                    selected.getPlatform(), selected.getChannelName()));
+                String key = selected.getKey();
+                channelExecutor.execute(() -> {
+                    if (monitoringService.isMonitoring(key)) {
+                        LogService.get().log(LogEntry.system(LogEntry.Level.INFO, String.format("[System] Stopped monitoring %s: %s", 
+                            selected.getPlatform(), selected.getChannelName())));
+                    }
+                    monitoringService.removeChannel(key);
+                    
+                    Platform.runLater(() -> {
+                        channelList.remove(selected);
+                        rowsByKey.remove(key);
+                    });
+                    LogService.get().log(LogEntry.system(LogEntry.Level.INFO, String.format("[System] Removed channel %s: %s", 
+                        selected.getPlatform(), selected.getChannelName())));
+                });
             }
             // If user clicked Cancel or closed dialog, do nothing
             
@@ -712,7 +888,17 @@ public class Main extends Application {
             @Override
             protected Void call() throws Exception {
                 Platform.runLater(() -> statusLabel.setText("Stopping monitoring services..."));
-                monitoringService.shutdown();
+                var outcomes = monitoringService.shutdown((channelKey, outcome, stopped, total) -> 
+                    Platform.runLater(() -> statusLabel.setText(
+                        String.format("Stopping monitoring services... (%d/%d)", stopped, total))));
+                
+                long timedOut = outcomes.values().stream()
+                    .filter(outcome -> outcome == MonitoringService.ShutdownOutcome.TIMED_OUT)
+                    .count();
+                if (timedOut > 0) {
+                    // Reported through failed() so the user sees the warning
+                    throw new IllegalStateException(timedOut + " recording process(es) did not stop in time");
+                }
 
                 Platform.runLater(() -> statusLabel.setText("Finalizing shutdown..."));
                 Thread.sleep(500); // small grace period
@@ -749,17 +935,16 @@ public class Main extends Application {
     private void showEditChannelDialog(ChannelEntry channelEntry) {
         Optional<ChannelEntry> result = AddChannelDialog.showDialog(channelEntry);
         result.ifPresent(edited -> {
-            // Update channel fields
-            channelEntry.setPlatform(edited.getPlatform());
-            channelEntry.setChannelName(edited.getChannelName());
-            channelEntry.setChannelUrl(edited.getChannelUrl());
-            channelEntry.setQuality(edited.getQuality());
-            channelEntry.setIsActive(edited.getIsActive());
-            // Refresh table and save
-            channelTable.refresh();
-            saveChannelsToConfig();
-            logArea.appendText(String.format("[System] Edited channel %s: %s\n",
-                edited.getPlatform(), edited.getChannelName()));
+            String previousKey = channelEntry.getKey();
+            Channel channel = edited.toChannel();
+            
+            // Save and apply the change to the running monitor in the background, the row follows once applied
+            channelExecutor.execute(() -> {
+                monitoringService.updateChannel(previousKey, channel);
+                Platform.runLater(this::syncRowsWithChannels);
+                LogService.get().log(LogEntry.system(LogEntry.Level.INFO, String.format("[System] Edited channel %s: %s",
+                    edited.getPlatform(), edited.getChannelName())));
+            });
         });
     }
 
@@ -800,37 +985,6 @@ public class Main extends Application {
         }
     }
 
-    /**
-     * Load platform icon from assets/icons directory
-     */
-    private ImageView loadPlatformIcon(String platform) {
-        try {
-            String iconPath = "/assets/icons/" + platform.toLowerCase() + ".png";
-            InputStream iconStream = getClass().getResourceAsStream(iconPath);
-            
-            if (iconStream != null) {
-                Image image = new Image(iconStream);
-                
-                // Check if image loaded successfully
-                if (!image.isError()) {
-                    ImageView imageView = new ImageView(image);
-                    
-                    // Set icon size slightly larger for table display (20px)
-                    imageView.setFitWidth(20);
-                    imageView.setFitHeight(20);
-                    imageView.setPreserveRatio(true);
-                    
-                    return imageView;
-                }
-            }
-        } catch (Exception e) {
-            // If icon loading fails, continue without icon
-            System.err.println("Failed to load icon for platform: " + platform + " - " + e.getMessage());
-        }
-        
-        return null;
-    }
-
     /**
      * Show support dialog with Ko-fi link
      */
@@ -951,13 +1105,13 @@ public class Main extends Application {
                     }
                     
                     Platform.runLater(() -> {
-                        logArea.appendText("[System] Opened Ko-fi support page in browser\n");
+                        LogService.get().log(LogEntry.system(LogEntry.Level.INFO, "[System] Opened Ko-fi support page in browser"));
                     });
                     
                 } catch (Exception e) {
                     Platform.runLater(() -> {
                         showBrowserError("Failed to open Ko-fi link: " + e.getMessage());
-                        logArea.appendText("[System] Error opening Ko-fi link: " + e.getMessage() + "\n");
+                        LogService.get().log(LogEntry.system(LogEntry.Level.ERROR, "[System] Error opening Ko-fi link: " + e.getMessage()));
                     });
                 }
                 return null;
@@ -0,0 +1,79 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each startup phase takes, phases may run concurrently on different threads.
+ */
+public class StartupTimer {
+
+    private final long startNanos = System.nanoTime();
+    private final List<String> phases = new ArrayList<>();
+
+    /**
+     * Run a phase and record its duration
+     */
+    public void time(String phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run a phase returning a value and record its duration
+     */
+    public <T> T time(String phase, Supplier<T> action) {
+        long phaseStart = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart);
+            long startedAtMs = TimeUnit.NANOSECONDS.toMillis(phaseStart - startNanos);
+            record(String.format("%s=%dms (+%dms, %s)", phase, durationMs, startedAtMs, Thread.currentThread().getName()));
+        }
+    }
+
+    /**
+     * Record a point in time relative to the start, e.g. when the window was shown
+     */
+    public void mark(String event) {
+        record(String.format("%s@%dms", event, elapsedMs()));
+    }
+
+    private synchronized void record(String phase) {
+        phases.add(phase);
+    }
+
+    public long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * One line breakdown of all phases, including the time the JVM took before start()
+     */
+    public synchronized String summary() {
+        StringBuilder summary = new StringBuilder();
+        ProcessHandle.current().info().startInstant().ifPresent(jvmStart -> {
+            long launchMs = Duration.between(jvmStart, Instant.now()).toMillis() - elapsedMs();
+            summary.append("jvm=").append(Math.max(0, launchMs)).append("ms, ");
+        });
+        summary.append(String.join(", ", phases));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,457 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.api;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.yougo.streamwarden.config.AppSettings;
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.ChannelStatus;
+import com.yougo.streamwarden.core.MonitoringService;
+import com.yougo.streamwarden.core.RecordingProfile;
+import com.yougo.streamwarden.logging.LogService;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Local HTTP control and status API on the JDK HttpServer.
+ *
+ *   GET    /api/channels                           all channels with their live state
+ *   POST   /api/channels                           add a channel (JSON body)
+ *   GET    /api/channels/{platform}/{name}         one channel
+ *   DELETE /api/channels/{platform}/{name}         remove a channel
+ *   POST   /api/channels/{platform}/{name}/enable  start monitoring
+ *   POST   /api/channels/{platform}/{name}/disable stop monitoring
+ *   GET    /api/events                             server-sent events for status transitions
+ *
+ * Reads are served from a JSON snapshot rebuilt off the request threads when something changes,
+ * so polling the API never touches monitor threads.
+ *
+ * Browsers can reach a local server from any web page, so requests from a non-local Origin are refused,
+ * and so is a Host other than localhost while bound to loopback (DNS rebinding). With an API token set,
+ * changes also require an "Authorization: Bearer <token>" header.
+ */
+public class ApiServer {
+
+    private static final long SNAPSHOT_DELAY_MS = 100;
+    private static final int EVENT_QUEUE_CAPACITY = 1024;
+    private static final long KEEP_ALIVE_SECONDS = 15;
+    private static final Gson gson = new Gson();
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private final MonitoringService monitoringService;
+    private final AppSettings settings;
+    private final boolean loopbackOnly;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final ScheduledExecutorService snapshotScheduler;
+    private final AtomicBoolean snapshotScheduled = new AtomicBoolean(false);
+    private final Map<String, Long> statusSince = new ConcurrentHashMap<>();
+    private final Set<BlockingQueue<String>> eventClients = ConcurrentHashMap.newKeySet();
+
+    private volatile byte[] channelsSnapshot;
+    private volatile Map<String, ChannelState> statesByKey = Map.of();
+    private volatile boolean running = true;
+
+    /**
+     * State of one channel as returned by the API
+     */
+    static class ChannelState {
+        String key;
+        String platform;
+        String channelName;
+        String channelUrl;
+        String quality;
+        List<String> extraQualities;
+        boolean active;
+        String status;
+        boolean recording;
+        long statusSince;
+    }
+
+    /**
+     * Payload of a status server-sent event
+     */
+    static class StatusEvent {
+        final String key;
+        final String status;
+        final long time;
+
+        StatusEvent(String key, ChannelStatus status, long time) {
+            this.key = key;
+            this.status = status.name();
+            this.time = time;
+        }
+    }
+
+    /**
+     * Body of a POST /api/channels request
+     */
+    static class ChannelRequest {
+        String platform;
+        String channelName;
+        String channelUrl;
+        String quality;
+        Boolean active;
+        RecordingProfile recording;
+        List<String> extraQualities;
+    }
+
+    public ApiServer(MonitoringService monitoringService, AppSettings settings) throws IOException {
+        this.monitoringService = monitoringService;
+        this.settings = settings;
+        InetSocketAddress address = new InetSocketAddress(settings.getApiBindAddress(), settings.getApiPort());
+        this.loopbackOnly = address.getAddress() != null && address.getAddress().isLoopbackAddress();
+        String apiToken = settings.getApiToken();
+        this.token = apiToken == null || apiToken.isBlank() ? null : apiToken.trim().getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(address, 0);
+        // Event streams keep their thread, so the pool is not bounded by a fixed size
+        this.requestExecutor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("ApiServer-" + t.getId());
+            return t;
+        });
+        this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("ApiSnapshot");
+            return t;
+        });
+
+        server.setExecutor(requestExecutor);
+        server.createContext("/api/channels", this::handleChannels);
+        server.createContext("/api/events", this::handleEvents);
+
+        monitoringService.addStatusListener(this::onStatusChanged);
+        monitoringService.addChannelListener(this::scheduleSnapshot);
+        rebuildSnapshot();
+    }
+
+    public void start() {
+        server.start();
+        LogService.get().info("[System] API listening on http://" + server.getAddress().getHostString() 
+            + ":" + server.getAddress().getPort() + "/api");
+        if (!loopbackOnly && token == null) {
+            LogService.get().warn("[System] API is reachable from the network without a token, set apiToken in settings.json");
+        }
+    }
+
+    public void stop() {
+        running = false;
+        server.stop(0);
+        snapshotScheduler.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Called on monitor threads: only records the transition and queues it, never blocks
+     */
+    private void onStatusChanged(Channel channel, ChannelStatus status) {
+        long now = System.currentTimeMillis();
+        statusSince.put(channel.getKey(), now);
+
+        String event = "event: status\ndata: " + gson.toJson(new StatusEvent(channel.getKey(), status, now)) + "\n\n";
+        for (BlockingQueue<String> client : eventClients) {
+            if (!client.offer(event)) {
+                // Client is not reading, drop it instead of buffering without bound
+                eventClients.remove(client);
+                client.clear();
+                client.offer(""); // Wake its stream thread so it notices and closes the connection
+            }
+        }
+        scheduleSnapshot();
+    }
+
+    private void scheduleSnapshot() {
+        if (running && snapshotScheduled.compareAndSet(false, true)) {
+            snapshotScheduler.schedule(() -> {
+                snapshotScheduled.set(false);
+                rebuildSnapshot();
+            }, SNAPSHOT_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuildSnapshot() {
+        List<ChannelState> states = new ArrayList<>();
+        Map<String, ChannelState> byKey = new ConcurrentHashMap<>();
+        for (Channel channel : monitoringService.getChannels()) {
+            ChannelState state = new ChannelState();
+            state.key = channel.getKey();
+            state.platform = channel.getPlatform();
+            state.channelName = channel.getChannelName();
+            state.channelUrl = channel.getChannelUrl();
+            state.quality = channel.getQuality();
+            state.extraQualities = channel.getExtraQualities();
+            state.active = channel.isActive();
+            state.status = monitoringService.getStatus(channel.getKey()).name();
+            state.recording = monitoringService.isRecording(channel.getKey());
+            state.statusSince = statusSince.getOrDefault(channel.getKey(), 0L);
+            states.add(state);
+            byKey.put(state.key, state);
+        }
+        statesByKey = byKey;
+        channelsSnapshot = gson.toJson(states).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void handleChannels(HttpExchange exchange) throws IOException {
+        try {
+            if (!isAllowed(exchange)) {
+                return;
+            }
+            String method = exchange.getRequestMethod();
+            List<String> path = pathSegments(exchange, "/api/channels");
+
+            if (path.isEmpty()) {
+                if ("GET".equals(method)) {
+                    send(exchange, 200, channelsSnapshot);
+                } else if ("POST".equals(method)) {
+                    addChannel(exchange);
+                } else {
+                    sendError(exchange, 405, "Method not allowed");
+                }
+                return;
+            }
+
+            if (path.size() < 2 || path.size() > 3) {
+                sendError(exchange, 404, "Not found");
+                return;
+            }
+            String key = Channel.keyOf(path.get(0), path.get(1));
+            Channel channel = monitoringService.getChannel(key);
+            if (channel == null) {
+                sendError(exchange, 404, "Unknown channel: " + key);
+                return;
+            }
+
+            if (path.size() == 3) {
+                String action = path.get(2);
+                if (!"POST".equals(method) || !("enable".equals(action) || "disable".equals(action))) {
+                    sendError(exchange, 404, "Not found");
+                    return;
+                }
+                monitoringService.updateChannel(key, channel.withActive("enable".equals(action)));
+                sendJson(exchange, 200, Map.of("key", key, "active", "enable".equals(action)));
+            } else if ("GET".equals(method)) {
+                ChannelState state = statesByKey.get(key);
+                if (state == null) {
+                    // Added since the last snapshot
+                    rebuildSnapshot();
+                    state = statesByKey.get(key);
+                }
+                sendJson(exchange, 200, state);
+            } else if ("DELETE".equals(method)) {
+                monitoringService.removeChannel(key);
+                send(exchange, 204, null);
+            } else {
+                sendError(exchange, 405, "Method not allowed");
+            }
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void addChannel(HttpExchange exchange) throws IOException {
+        ChannelRequest request;
+        try (InputStreamReader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            request = gson.fromJson(reader, ChannelRequest.class);
+        } catch (JsonParseException e) {
+            sendError(exchange, 400, "Invalid JSON: " + e.getMessage());
+            return;
+        }
+        if (request == null || isBlank(request.platform) || isBlank(request.channelName) || isBlank(request.channelUrl)) {
+            sendError(exchange, 400, "platform, channelName and channelUrl are required");
+            return;
+        }
+
+        Channel channel = new Channel(request.platform.trim(), request.channelName.trim(), request.channelUrl.trim(),
+            request.active == null || request.active, isBlank(request.quality) ? settings.getDefaultQuality() : request.quality.trim(),
+            request.recording, request.extraQualities);
+        if (monitoringService.getChannel(channel.getKey()) != null) {
+            sendError(exchange, 409, "Channel already exists: " + channel.getKey());
+            return;
+        }
+        monitoringService.addChannel(channel);
+        sendJson(exchange, 201, Map.of("key", channel.getKey()));
+    }
+
+    /**
+     * Stream status transitions as server-sent events until the client disconnects
+     */
+    private void handleEvents(HttpExchange exchange) throws IOException {
+        if (!isAllowed(exchange)) {
+            exchange.close();
+            return;
+        }
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            sendError(exchange, 405, "Method not allowed");
+            exchange.close();
+            return;
+        }
+
+        BlockingQueue<String> queue = new ArrayBlockingQueue<>(EVENT_QUEUE_CAPACITY);
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        eventClients.add(queue);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            while (running && eventClients.contains(queue)) {
+                String event = queue.poll(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+                // A comment line keeps proxies from closing an idle stream
+                out.write((event != null ? event : ": keep-alive\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Client disconnected
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            eventClients.remove(queue);
+            exchange.close();
+        }
+    }
+
+    /**
+     * Refuse cross-site and rebound requests, and changes without the token when one is set.
+     * Sends the error response and returns false if the request must not be handled.
+     */
+    private boolean isAllowed(HttpExchange exchange) throws IOException {
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+        if (origin != null && !isLocalOrigin(origin)) {
+            sendError(exchange, 403, "Cross-origin requests are not allowed");
+            return false;
+        }
+        if (loopbackOnly && !isLocalHost(exchange.getRequestHeaders().getFirst("Host"))) {
+            sendError(exchange, 403, "Unexpected Host header");
+            return false;
+        }
+        String method = exchange.getRequestMethod();
+        boolean change = !"GET".equals(method) && !"HEAD".equals(method);
+        if (token != null && change && !hasToken(exchange)) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            sendError(exchange, 401, "Missing or invalid API token");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * An http(s) origin on localhost, the "null" origin of sandboxed pages and files is not one
+     */
+    private static boolean isLocalOrigin(String origin) {
+        try {
+            URI uri = new URI(origin);
+            return ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null
+                && (LOCAL_HOSTS.contains(uri.getHost()) || isLoopbackLiteral(uri.getHost()));
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Host header without its port must name this machine's loopback interface
+     */
+    private static boolean isLocalHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        int portIndex = host.lastIndexOf(':');
+        String name = portIndex > host.lastIndexOf(']') ? host.substring(0, portIndex) : host;
+        return LOCAL_HOSTS.contains(name.toLowerCase()) || isLoopbackLiteral(name);
+    }
+
+    private static boolean isLoopbackLiteral(String host) {
+        // Only IPv4 literals, names are never resolved here
+        if (!host.matches("\\d{1,3}(\\.\\d{1,3}){3}")) {
+            return false;
+        }
+        try {
+            return InetAddress.getByName(host).isLoopbackAddress();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean hasToken(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return false;
+        }
+        byte[] presented = authorization.substring(7).trim().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(presented, token);
+    }
+
+    private static List<String> pathSegments(HttpExchange exchange, String prefix) {
+        String path = exchange.getRequestURI().getRawPath().substring(prefix.length());
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, gson.toJson(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of("error", message != null ? message : "Internal error"));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -12,21 +12,45 @@ package com.yougo.streamwarden.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.yougo.streamwarden.core.RecordingProfile;
+import com.yougo.streamwarden.logging.LogEntry;
+import com.yougo.streamwarden.logging.LogService;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Application settings. A single shared instance is used by the UI and the monitors,
+ * so saved changes apply live; the file is written behind on a background thread.
+ */
 public class AppSettings {
     
     private static final String CONFIG_DIR = "config";
     private static final String DOWNLOADS_DIR = "downloads";
     private static final String SETTINGS_FILE = CONFIG_DIR + File.separator + "settings.json";
+    private static final long WRITE_DELAY_MS = 300;
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
     
+    private static AppSettings instance;
+    private static final DebouncedFileWriter writer = 
+        new DebouncedFileWriter(new File(SETTINGS_FILE), WRITE_DELAY_MS, AppSettings::serialize);
+    private static final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    
+    // Streamlink detection spawns processes, it is done once per run under its own lock so a slow
+    // detection never blocks load() or the settings writer, which synchronize on the class
+    private static final Object streamlinkDetectionLock = new Object();
+    private static volatile String detectedStreamlinkPath;
+    private static volatile String detectedStreamlinkVersion;
+    
     // Ensure config and downloads directories exist
     static {
         File configDir = new File(CONFIG_DIR);
@@ -41,13 +65,35 @@ public class AppSettings {
     }
     
     // Default settings
-    private String outputDirectory = getDefaultDownloadsDirectory();
-    private boolean autoStartMonitoring = true;
-    private int defaultCheckInterval = 60;
-    private String defaultQuality = "1080p";
-    private boolean minimizeToTray = false;
-    private boolean showActivityLogs = false;
-    private boolean recordHighFps = true;
+    private volatile String outputDirectory = getDefaultDownloadsDirectory();
+    private volatile boolean autoStartMonitoring = true;
+    private volatile int defaultCheckInterval = 60;
+    private volatile String defaultQuality = "1080p";
+    private volatile boolean minimizeToTray = false;
+    private volatile boolean showActivityLogs = false;
+    private volatile boolean recordHighFps = true;
+    private volatile boolean useScratchDirectory = false;
+    private volatile String scratchDirectory = "";
+    private volatile int migrationRateLimitMBps = 0;
+    private volatile String logLevel = "INFO";
+    private volatile boolean consoleLogging = true;
+    private volatile int logMaxFileSizeMB = 10;
+    private volatile int logMaxFiles = 5;
+    private volatile boolean apiEnabled = false;
+    private volatile String apiBindAddress = "127.0.0.1";
+    private volatile int apiPort = 8787;
+    private volatile String apiToken = "";
+    private volatile boolean metricsEnabled = false;
+    private volatile String metricsBindAddress = "127.0.0.1";
+    private volatile int metricsPort = 9464;
+    private volatile boolean flightRecorderEnabled = false;
+    private volatile String customStreamlinkPath = "";
+    private volatile int flightRecorderMaxAgeMinutes = 60;
+    private volatile int flightRecorderMaxSizeMB = 100;
+    private volatile Map<String, RecordingProfile> recordingProfiles = defaultRecordingProfiles();
+    private volatile boolean builtInHlsRecorder = false;
+    private volatile int maxExtraOutputs = 0;
+    private volatile boolean youTubeSchedules = true;
 
     /**
      * Get the default downloads directory (local downloads folder)
@@ -58,19 +104,41 @@ public class AppSettings {
     }
 
 
+    /**
+     * Platform recording profiles: YouTube serves the highest bitrates and benefits from more parallel
+     * segment downloads and a larger buffer, other platforms use the built-in defaults
+     */
+    private static Map<String, RecordingProfile> defaultRecordingProfiles() {
+        Map<String, RecordingProfile> profiles = new LinkedHashMap<>();
+        profiles.put("YouTube", new RecordingProfile(4, "64M", null, null, null, null, null));
+        profiles.put("Twitch", new RecordingProfile(3, null, null, null, null, null, null));
+        profiles.put("Kick", RecordingProfile.EMPTY);
+        return profiles;
+    }
+
+    /**
+     * Get the shared settings, the JSON file is only read the first time
+     */
+    public static synchronized AppSettings load() {
+        if (instance == null) {
+            instance = readSettingsFile();
+        }
+        return instance;
+    }
+    
     /**
      * Load settings from JSON file
      */
-    public static AppSettings load() {
+    private static AppSettings readSettingsFile() {
         File settingsFile = new File(SETTINGS_FILE);
         
         if (!settingsFile.exists()) {
             AppSettings defaultSettings = new AppSettings();
-            defaultSettings.save(); // Create default settings file
+            writer.markDirty(); // Create default settings file
             return defaultSettings;
         }
         
-        try (FileReader reader = new FileReader(settingsFile)) {
+        try (FileReader reader = new FileReader(settingsFile, StandardCharsets.UTF_8)) {
             AppSettings settings = gson.fromJson(reader, AppSettings.class);
             return settings != null ? settings : new AppSettings();
         } catch (IOException e) {
@@ -80,16 +148,37 @@ public class AppSettings {
     }
     
     /**
-     * Save settings to JSON file
+     * Save settings in the background and notify listeners of the change
      */
     public void save() {
-        try (FileWriter writer = new FileWriter(SETTINGS_FILE)) {
-            gson.toJson(this, writer);
-        } catch (IOException e) {
-            System.err.println("Error saving settings: " + e.getMessage());
+        writer.markDirty();
+        for (Runnable listener : changeListeners) {
+            listener.run();
         }
     }
     
+    private static synchronized String serialize() {
+        return gson.toJson(instance != null ? instance : new AppSettings());
+    }
+    
+    /**
+     * Write pending changes synchronously, called before exiting
+     */
+    public static void flush() {
+        writer.shutdown();
+    }
+    
+    /**
+     * Register a listener called after settings are saved (on the saving thread)
+     */
+    public static void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+    
+    public static void removeChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
+    }
+    
     // Getters and setters
     public String getOutputDirectory() {
         return outputDirectory;
@@ -148,12 +237,274 @@ public class AppSettings {
         this.recordHighFps = recordHighFps;
     }
     
+    public boolean isUseScratchDirectory() {
+        return useScratchDirectory;
+    }
+    
+    public void setUseScratchDirectory(boolean useScratchDirectory) {
+        this.useScratchDirectory = useScratchDirectory;
+    }
+    
+    public String getScratchDirectory() {
+        return scratchDirectory;
+    }
+    
+    public void setScratchDirectory(String scratchDirectory) {
+        this.scratchDirectory = scratchDirectory;
+    }
+    
+    public int getMigrationRateLimitMBps() {
+        return migrationRateLimitMBps;
+    }
+    
+    public void setMigrationRateLimitMBps(int migrationRateLimitMBps) {
+        this.migrationRateLimitMBps = migrationRateLimitMBps;
+    }
+    
+    /**
+     * Get the minimum log level, falls back to INFO if the stored value is invalid
+     */
+    public LogEntry.Level getLogLevel() {
+        if (logLevel != null) {
+            try {
+                return LogEntry.Level.valueOf(logLevel.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Fall through to the default level
+            }
+        }
+        return LogEntry.Level.INFO;
+    }
+    
+    public void setLogLevel(LogEntry.Level logLevel) {
+        this.logLevel = logLevel.name();
+    }
+    
+    public boolean isConsoleLogging() {
+        return consoleLogging;
+    }
+    
+    public void setConsoleLogging(boolean consoleLogging) {
+        this.consoleLogging = consoleLogging;
+    }
+    
+    public int getLogMaxFileSizeMB() {
+        return logMaxFileSizeMB;
+    }
+    
+    public void setLogMaxFileSizeMB(int logMaxFileSizeMB) {
+        this.logMaxFileSizeMB = logMaxFileSizeMB;
+    }
+    
+    public int getLogMaxFiles() {
+        return logMaxFiles;
+    }
+    
+    public void setLogMaxFiles(int logMaxFiles) {
+        this.logMaxFiles = logMaxFiles;
+    }
+    
+    public boolean isApiEnabled() {
+        return apiEnabled;
+    }
+    
+    public void setApiEnabled(boolean apiEnabled) {
+        this.apiEnabled = apiEnabled;
+    }
+    
+    public String getApiBindAddress() {
+        return apiBindAddress;
+    }
+    
+    public void setApiBindAddress(String apiBindAddress) {
+        this.apiBindAddress = apiBindAddress;
+    }
+    
+    public int getApiPort() {
+        return apiPort;
+    }
+    
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+    
+    /**
+     * Bearer token required by the API for changes (POST, DELETE), empty for none
+     */
+    public String getApiToken() {
+        return apiToken;
+    }
+    
+    public void setApiToken(String apiToken) {
+        this.apiToken = apiToken;
+    }
+    
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+    
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+    
+    public String getMetricsBindAddress() {
+        return metricsBindAddress;
+    }
+    
+    public void setMetricsBindAddress(String metricsBindAddress) {
+        this.metricsBindAddress = metricsBindAddress;
+    }
+    
+    public int getMetricsPort() {
+        return metricsPort;
+    }
+    
+    public void setMetricsPort(int metricsPort) {
+        this.metricsPort = metricsPort;
+    }
+    
+    public Map<String, RecordingProfile> getRecordingProfiles() {
+        return Collections.unmodifiableMap(recordingProfiles);
+    }
+    
+    public void setRecordingProfiles(Map<String, RecordingProfile> recordingProfiles) {
+        this.recordingProfiles = new LinkedHashMap<>(recordingProfiles);
+    }
+    
+    /**
+     * Recording profile of a platform, empty if none is configured
+     */
+    public RecordingProfile getRecordingProfile(String platform) {
+        Map<String, RecordingProfile> profiles = recordingProfiles;
+        RecordingProfile profile = profiles != null ? profiles.get(platform) : null;
+        return profile != null ? profile : RecordingProfile.EMPTY;
+    }
+    
+    public boolean isBuiltInHlsRecorder() {
+        return builtInHlsRecorder;
+    }
+    
+    /**
+     * Record HLS streams with the in-process recorder instead of a streamlink process, applies to new recordings
+     */
+    public void setBuiltInHlsRecorder(boolean builtInHlsRecorder) {
+        this.builtInHlsRecorder = builtInHlsRecorder;
+    }
+    
+    public int getMaxExtraOutputs() {
+        return maxExtraOutputs;
+    }
+    
+    /**
+     * Limit on extra outputs recording at once across all channels, 0 for no limit. Applies to the next start.
+     */
+    public void setMaxExtraOutputs(int maxExtraOutputs) {
+        this.maxExtraOutputs = maxExtraOutputs;
+    }
+    
+    public boolean isYouTubeSchedules() {
+        return youTubeSchedules;
+    }
+    
+    /**
+     * Read announced start times of upcoming YouTube lives and premieres, and probe around them instead of blindly
+     */
+    public void setYouTubeSchedules(boolean youTubeSchedules) {
+        this.youTubeSchedules = youTubeSchedules;
+    }
+    
+    public String getCustomStreamlinkPath() {
+        return customStreamlinkPath;
+    }
+    
+    /**
+     * Use this streamlink executable instead of auto-detecting one (empty for auto-detection),
+     * applies on the next start
+     */
+    public void setCustomStreamlinkPath(String customStreamlinkPath) {
+        this.customStreamlinkPath = customStreamlinkPath;
+    }
+    
+    public boolean isFlightRecorderEnabled() {
+        return flightRecorderEnabled;
+    }
+    
+    public void setFlightRecorderEnabled(boolean flightRecorderEnabled) {
+        this.flightRecorderEnabled = flightRecorderEnabled;
+    }
+    
+    public int getFlightRecorderMaxAgeMinutes() {
+        return flightRecorderMaxAgeMinutes;
+    }
+    
+    public void setFlightRecorderMaxAgeMinutes(int flightRecorderMaxAgeMinutes) {
+        this.flightRecorderMaxAgeMinutes = flightRecorderMaxAgeMinutes;
+    }
+    
+    public int getFlightRecorderMaxSizeMB() {
+        return flightRecorderMaxSizeMB;
+    }
+    
+    public void setFlightRecorderMaxSizeMB(int flightRecorderMaxSizeMB) {
+        this.flightRecorderMaxSizeMB = flightRecorderMaxSizeMB;
+    }
+    
+    /**
+     * Check if live recordings should go to the scratch directory and be
+     * migrated to the output directory once completed
+     */
+    public boolean isStorageTieringEnabled() {
+        return useScratchDirectory && scratchDirectory != null && !scratchDirectory.trim().isEmpty();
+    }
+    
     /**
      * Get the path to streamlink executable based on OS and availability
-     * Logs which streamlink is used and its version.
      */
     public String getStreamlinkPath() {
-        String streamlinkPath;
+        detectStreamlink();
+        return detectedStreamlinkPath;
+    }
+    
+    /**
+     * Get current Streamlink version string
+     */
+    public String getStreamlinkVersion() {
+        detectStreamlink();
+        return detectedStreamlinkVersion;
+    }
+    
+    /**
+     * Find the streamlink executable and its version, only the first call does the work.
+     * Logs which streamlink is used and its version.
+     */
+    public static void detectStreamlink() {
+        if (detectedStreamlinkVersion != null) {
+            return;
+        }
+        String customPath = load().getCustomStreamlinkPath();
+        String trimmedCustomPath = customPath == null ? "" : customPath.trim();
+        synchronized (streamlinkDetectionLock) {
+            if (detectedStreamlinkVersion != null) {
+                return;
+            }
+            String path = findStreamlinkPath(trimmedCustomPath);
+            String version = readStreamlinkVersion(path);
+            detectedStreamlinkPath = path;
+            detectedStreamlinkVersion = version; // Published last, marks detection as done
+            String source;
+            if (!trimmedCustomPath.isEmpty() && path.equals(trimmedCustomPath)) {
+                source = "custom Streamlink: " + path;
+            } else {
+                source = path.equals("streamlink") ? "system Streamlink from PATH" : "bundled Streamlink: " + path;
+            }
+            LogService.get().info("[AppSettings] Using " + source + " (version: " + version + ")");
+        }
+    }
+    
+    private static String findStreamlinkPath(String customPath) {
+        // An explicitly configured executable wins over the bundled and system copies
+        if (!customPath.isEmpty()) {
+            return customPath;
+        }
         if (isWindowsOS()) {
             // Try to find Streamlink in app/bin/windows/ (packaged), then bin/windows/ (dev)
             String[] baseDirs = { "app" + File.separator + "bin" + File.separator + "windows", "bin" + File.separator + "windows" };
@@ -165,31 +516,21 @@ public class AppSettings {
                         // Use the first matching streamlink folder
                         File streamlinkDir = candidates[0];
                         String bundledPath = streamlinkDir.getPath() + File.separator + "bin" + File.separator + "streamlink.exe";
-                        File bundledFile = new File(bundledPath);
-                        if (bundledFile.exists()) {
-                            streamlinkPath = bundledPath;
-                            System.out.println("[AppSettings] Using bundled Streamlink: " + streamlinkPath + " (version: " + getStreamlinkVersion(streamlinkPath) + ")");
-                            return streamlinkPath;
+                        if (new File(bundledPath).exists()) {
+                            return bundledPath;
                         }
                     }
                 }
             }
-            // Fallback to system Streamlink
-            streamlinkPath = "streamlink";
-            System.out.println("[AppSettings] Using system Streamlink from PATH (version: " + getStreamlinkVersion(streamlinkPath) + ")");
-            return streamlinkPath;
-        } else {
-            // Linux/Mac: use system installation
-            streamlinkPath = "streamlink";
-            System.out.println("[AppSettings] Using system Streamlink from PATH (version: " + getStreamlinkVersion(streamlinkPath) + ")");
-            return streamlinkPath;
         }
+        // Linux/Mac, or no bundled copy: use system installation
+        return "streamlink";
     }
 
     /**
      * Get Streamlink version for a given executable path.
      */
-    private String getStreamlinkVersion(String streamlinkPath) {
+    private static String readStreamlinkVersion(String streamlinkPath) {
         try {
             ProcessBuilder pb = new ProcessBuilder(streamlinkPath, "--version");
             Process process = pb.start();
@@ -215,27 +556,8 @@ public class AppSettings {
      * Kick requires Streamlink 7.3.0 or higher
      */
     public boolean isKickSupported() {
-        try {
-            ProcessBuilder pb = new ProcessBuilder(getStreamlinkPath(), "--version");
-            Process process = pb.start();
-            
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String versionLine = reader.readLine();
-                if (versionLine != null && versionLine.contains("streamlink")) {
-                    // Extract version number (e.g., "streamlink 7.5.1" -> "7.5.1")
-                    String[] parts = versionLine.split(" ");
-                    if (parts.length >= 2) {
-                        String version = parts[1];
-                        return isVersionSupported(version, "7.3.0");
-                    }
-                }
-            }
-            process.waitFor();
-        } catch (Exception e) {
-            // If we can't determine version, assume Kick is not supported
-            return false;
-        }
-        return false;
+        // An unknown version fails the comparison, so Kick is then assumed not supported
+        return isVersionSupported(getStreamlinkVersion(), "7.3.0");
     }
     
     /**
@@ -265,30 +587,6 @@ public class AppSettings {
         }
     }
     
-    /**
-     * Get current Streamlink version string
-     */
-    public String getStreamlinkVersion() {
-        try {
-            ProcessBuilder pb = new ProcessBuilder(getStreamlinkPath(), "--version");
-            Process process = pb.start();
-            
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String versionLine = reader.readLine();
-                if (versionLine != null && versionLine.contains("streamlink")) {
-                    String[] parts = versionLine.split(" ");
-                    if (parts.length >= 2) {
-                        return parts[1];
-                    }
-                }
-            }
-            process.waitFor();
-        } catch (Exception e) {
-            return "unknown";
-        }
-        return "unknown";
-    }
-
     /**
      * Check if the current operating system is Windows
      */
@@ -13,24 +13,34 @@ package com.yougo.streamwarden.config;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
-import com.yougo.streamwarden.ChannelEntry;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import com.yougo.streamwarden.core.Channel;
+import com.yougo.streamwarden.core.RecordingProfile;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Channel list persistence. The canonical list is kept in memory, changes are written
+ * behind on a background thread (debounced, temp file + fsync + atomic move).
+ */
 public class ChannelConfig {
     
     private static final String CONFIG_DIR = "config";
     private static final String CHANNELS_FILE = CONFIG_DIR + File.separator + "channels.json";
+    private static final long WRITE_DELAY_MS = 500;
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
     
+    // Canonical channel list, guarded by the ChannelConfig class lock
+    private static List<ChannelData> channels;
+    private static final DebouncedFileWriter writer = 
+        new DebouncedFileWriter(new File(CHANNELS_FILE), WRITE_DELAY_MS, ChannelConfig::serialize);
+    
     // Ensure config directory exists
     static {
         File configDir = new File(CONFIG_DIR);
@@ -48,36 +58,48 @@ public class ChannelConfig {
         public String channelUrl;
         public boolean isActive;
         public String quality;
+        public RecordingProfile recording; // Channel overrides, omitted when there are none
+        public List<String> extraQualities; // Additional outputs, omitted when there are none
         
         public ChannelData() {}
         
-        public ChannelData(ChannelEntry entry) {
-            this.platform = entry.getPlatform();
-            this.channelName = entry.getChannelName();
-            this.channelUrl = entry.getChannelUrl();
-            this.isActive = entry.getIsActive();
-            this.quality = entry.getQuality();
+        public ChannelData(Channel channel) {
+            this.platform = channel.getPlatform();
+            this.channelName = channel.getChannelName();
+            this.channelUrl = channel.getChannelUrl();
+            this.isActive = channel.isActive();
+            this.quality = channel.getQuality();
+            this.recording = channel.getRecordingProfile().isEmpty() ? null : channel.getRecordingProfile();
+            this.extraQualities = channel.getExtraQualities().isEmpty() ? null : channel.getExtraQualities();
         }
         
-        public ChannelEntry toChannelEntry() {
-            return new ChannelEntry(platform, channelName, channelUrl, isActive, "Offline", quality);
+        public Channel toChannel() {
+            return new Channel(platform, channelName, channelUrl, isActive, quality, recording, extraQualities);
+        }
+    }
+    
+    /**
+     * Get a copy of the channel list, the file is only read the first time
+     */
+    public static synchronized List<ChannelData> loadChannels() {
+        if (channels == null) {
+            channels = readChannelsFile();
         }
+        return new ArrayList<>(channels);
     }
     
     /**
      * Load channels from JSON file
      */
-    public static List<ChannelData> loadChannels() {
+    private static List<ChannelData> readChannelsFile() {
         File channelsFile = new File(CHANNELS_FILE);
         
         if (!channelsFile.exists()) {
             return new ArrayList<>();
         }
         
-        try (FileReader reader = new FileReader(channelsFile)) {
-            Type listType = new TypeToken<List<ChannelData>>(){}.getType();
-            List<ChannelData> channels = gson.fromJson(reader, listType);
-            return channels != null ? channels : new ArrayList<>();
+        try (FileReader reader = new FileReader(channelsFile, StandardCharsets.UTF_8)) {
+            return fromJson(reader);
         } catch (IOException e) {
             System.err.println("Error loading channels: " + e.getMessage());
             return new ArrayList<>();
@@ -85,34 +107,47 @@ public class ChannelConfig {
     }
     
     /**
-     * Save channels to JSON file
+     * Parse a channels.json document
      */
-    public static void saveChannels(List<ChannelData> channels) {
-        try (FileWriter writer = new FileWriter(CHANNELS_FILE)) {
-            gson.toJson(channels, writer);
-        } catch (IOException e) {
-            System.err.println("Error saving channels: " + e.getMessage());
-        }
+    static List<ChannelData> fromJson(Reader reader) {
+        Type listType = new TypeToken<List<ChannelData>>(){}.getType();
+        List<ChannelData> channels = gson.fromJson(reader, listType);
+        return channels != null ? channels : new ArrayList<>();
     }
     
     /**
-     * Convert channel data list to observable list for UI
+     * Render a channels.json document
      */
-    public static ObservableList<ChannelEntry> toObservableList(List<ChannelData> channelDataList) {
-        ObservableList<ChannelEntry> entries = FXCollections.observableArrayList();
-        for (ChannelData data : channelDataList) {
-            entries.add(data.toChannelEntry());
-        }
-        return entries;
+    static String toJson(List<ChannelData> channelDataList) {
+        return gson.toJson(channelDataList);
+    }
+    
+    /**
+     * Replace the whole channel list, written to disk in the background
+     */
+    public static synchronized void saveChannels(List<ChannelData> channelDataList) {
+        channels = new ArrayList<>(channelDataList);
+        writer.markDirty();
+    }
+    
+    private static synchronized String serialize() {
+        return toJson(channels != null ? channels : new ArrayList<ChannelData>());
+    }
+    
+    /**
+     * Write pending changes synchronously, called before exiting
+     */
+    public static void flush() {
+        writer.shutdown();
     }
     
     /**
-     * Convert observable list to channel data list for saving
+     * Convert saved channel data to core channels
      */
-    public static List<ChannelData> fromObservableList(ObservableList<ChannelEntry> channelEntries) {
-        List<ChannelData> channels = new ArrayList<>();
-        for (ChannelEntry entry : channelEntries) {
-            channels.add(new ChannelData(entry));
+    public static List<Channel> toChannels(List<ChannelData> channelDataList) {
+        List<Channel> channels = new ArrayList<>(channelDataList.size());
+        for (ChannelData data : channelDataList) {
+            channels.add(data.toChannel());
         }
         return channels;
     }
@@ -120,21 +155,36 @@ public class ChannelConfig {
     /**
      * Add a single channel and save
      */
-    public static void addChannel(ChannelEntry entry) {
-        List<ChannelData> channels = loadChannels();
-        channels.add(new ChannelData(entry));
-        saveChannels(channels);
+    public static synchronized void addChannel(Channel channel) {
+        loadChannels();
+        channels.add(new ChannelData(channel));
+        writer.markDirty();
     }
     
     /**
      * Remove a channel and save
      */
-    public static void removeChannel(ChannelEntry entry) {
-        List<ChannelData> channels = loadChannels();
-        channels.removeIf(data -> 
-            data.platform.equals(entry.getPlatform()) && 
-            data.channelName.equals(entry.getChannelName())
-        );
-        saveChannels(channels);
+    public static synchronized void removeChannel(Channel channel) {
+        loadChannels();
+        if (channels.removeIf(data -> Channel.keyOf(data.platform, data.channelName).equals(channel.getKey()))) {
+            writer.markDirty();
+        }
+    }
+    
+    /**
+     * Replace the channel previously saved under the given key, and save
+     */
+    public static synchronized void updateChannel(String previousKey, Channel channel) {
+        loadChannels();
+        for (int i = 0; i < channels.size(); i++) {
+            ChannelData data = channels.get(i);
+            if (Channel.keyOf(data.platform, data.channelName).equals(previousKey)) {
+                // Stored entries are never mutated, so a write in progress sees a consistent list
+                channels.set(i, new ChannelData(channel));
+                writer.markDirty();
+                return;
+            }
+        }
+        addChannel(channel);
     }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind persistence for a single file. Callers only mark the content as changed,
+ * changes within the debounce delay are coalesced into one write on a background thread.
+ * Each write goes to a temp file that is fsynced and atomically moved over the target,
+ * so a crash leaves either the previous or the new content, never a truncated file.
+ */
+public class DebouncedFileWriter {
+
+    private final File targetFile;
+    private final long delayMs;
+    private final Supplier<String> snapshot;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+    // Incremented on every change; a write is skipped if that generation is already on disk
+    private final AtomicLong generation = new AtomicLong();
+    private long writtenGeneration = 0;
+
+    /**
+     * @param snapshot renders the current content, called on the writer thread
+     */
+    public DebouncedFileWriter(File targetFile, long delayMs, Supplier<String> snapshot) {
+        this.targetFile = targetFile;
+        this.delayMs = delayMs;
+        this.snapshot = snapshot;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("FileWriter-" + targetFile.getName());
+            return t;
+        });
+    }
+
+    /**
+     * Record a change and schedule a write, never blocks the caller
+     */
+    public void markDirty() {
+        generation.incrementAndGet();
+        if (writeScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(this::writeScheduledChanges, delayMs, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // Scheduler already shut down, flush() writes the change synchronously
+                writeScheduled.set(false);
+            }
+        }
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public synchronized long getWrittenGeneration() {
+        return writtenGeneration;
+    }
+
+    private void writeScheduledChanges() {
+        // Reset first so changes made during the write schedule the next one
+        writeScheduled.set(false);
+        write();
+    }
+
+    /**
+     * Write the current content if it changed since the last write
+     */
+    private synchronized void write() {
+        long current = generation.get();
+        if (current <= writtenGeneration) {
+            return;
+        }
+
+        String content = snapshot.get();
+        try {
+            writeAtomically(targetFile, content);
+            writtenGeneration = current;
+        } catch (IOException e) {
+            System.err.println("Error writing " + targetFile.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Synchronously write pending changes, used on exit
+     */
+    public void flush() {
+        write();
+    }
+
+    /**
+     * Stop the background thread and write pending changes
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    /**
+     * Replace a file through a fsynced temp file and an atomic move
+     */
+    public static void writeAtomically(File targetFile, String content) throws IOException {
+        File parent = targetFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        File tempFile = new File(targetFile.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile.toPath(), targetFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable channel definition used by the monitoring engine. Changes create a new instance,
+ * so monitor threads can share it without locking. Platform and quality come from a handful
+ * of values and are interned so thousands of channels share the same strings.
+ */
+public final class Channel {
+
+    private final String platform;
+    private final String channelName;
+    private final String channelUrl;
+    private final boolean active;
+    private final String quality;
+    private final RecordingProfile recordingProfile;
+    private final List<String> extraQualities;
+    private final String key;
+
+    public Channel(String platform, String channelName, String channelUrl, boolean active, String quality) {
+        this(platform, channelName, channelUrl, active, quality, RecordingProfile.EMPTY);
+    }
+
+    /**
+     * @param recordingProfile channel overrides of the platform recording profile, null for none
+     */
+    public Channel(String platform, String channelName, String channelUrl, boolean active, String quality,
+                   RecordingProfile recordingProfile) {
+        this(platform, channelName, channelUrl, active, quality, recordingProfile, null);
+    }
+
+    /**
+     * @param extraQualities qualities recorded as additional outputs of the same stream, null for none
+     */
+    public Channel(String platform, String channelName, String channelUrl, boolean active, String quality,
+                   RecordingProfile recordingProfile, List<String> extraQualities) {
+        this.platform = intern(platform);
+        this.channelName = channelName;
+        this.channelUrl = channelUrl;
+        this.active = active;
+        this.quality = intern(quality);
+        this.recordingProfile = recordingProfile != null ? recordingProfile : RecordingProfile.EMPTY;
+        this.extraQualities = normalizeQualities(extraQualities, this.quality);
+        this.key = keyOf(this.platform, channelName);
+    }
+
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+
+    /**
+     * Trimmed, interned, without blanks, duplicates or the main quality
+     */
+    private static List<String> normalizeQualities(List<String> qualities, String mainQuality) {
+        if (qualities == null || qualities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> normalized = new ArrayList<>(qualities.size());
+        for (String quality : qualities) {
+            String trimmed = quality != null ? quality.trim() : "";
+            if (!trimmed.isEmpty() && !trimmed.equals(mainQuality) && !normalized.contains(trimmed)) {
+                normalized.add(trimmed.intern());
+            }
+        }
+        return normalized.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(normalized);
+    }
+
+    /**
+     * Unique key of a channel, "platform:name"
+     */
+    public static String keyOf(String platform, String channelName) {
+        return platform + ":" + channelName;
+    }
+
+    public String getPlatform() {
+        return platform;
+    }
+
+    public String getChannelName() {
+        return channelName;
+    }
+
+    public String getChannelUrl() {
+        return channelUrl;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public String getQuality() {
+        return quality;
+    }
+
+    public RecordingProfile getRecordingProfile() {
+        return recordingProfile;
+    }
+
+    /**
+     * Qualities recorded next to the main one from the same detection, each to its own file
+     */
+    public List<String> getExtraQualities() {
+        return extraQualities;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Channel withActive(boolean active) {
+        return active == this.active ? this : new Channel(platform, channelName, channelUrl, active, quality, recordingProfile, extraQualities);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Channel)) {
+            return false;
+        }
+        Channel other = (Channel) o;
+        return active == other.active
+            && Objects.equals(platform, other.platform)
+            && Objects.equals(channelName, other.channelName)
+            && Objects.equals(channelUrl, other.channelUrl)
+            && Objects.equals(quality, other.quality)
+            && recordingProfile.equals(other.recordingProfile)
+            && extraQualities.equals(other.extraQualities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(platform, channelName, channelUrl, active, quality, recordingProfile, extraQualities);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,32 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+/**
+ * Monitoring status of a channel
+ */
+public enum ChannelStatus {
+    IDLE(""),            // Not monitored
+    OFFLINE("Offline"),
+    SCHEDULED("Scheduled"), // Offline with an announced start time
+    RECORDING("Recording"),
+    ERROR("Error");
+
+    private final String displayName;
+
+    ChannelStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,94 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes chapter sidecars for all channels from a single background thread. Changes only mark
+ * the recording as dirty, dirty sidecars are written together at most every FLUSH_DELAY_SECONDS,
+ * so many channels changing titles at once cost one short burst of small writes.
+ */
+final class ChapterWriter {
+
+    private static final long FLUSH_DELAY_SECONDS = 10;
+    private static final ChapterWriter INSTANCE = new ChapterWriter();
+
+    private final Set<RecordingChapters> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r);
+        t.setDaemon(true);
+        t.setName("ChapterWriter");
+        return t;
+    });
+
+    private ChapterWriter() {
+    }
+
+    static ChapterWriter get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedule a write of the recording's sidecars, never blocks the caller
+     */
+    void markDirty(RecordingChapters chapters) {
+        dirty.add(chapters);
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, FLUSH_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Write the final sidecars next to the final recording file once the recording ended. Sidecars written
+     * while recording to another location (the scratch directory) are removed. Runs on the writer thread,
+     * after any flush of the same recording.
+     */
+    void finish(RecordingChapters chapters, File finalRecordingFile) {
+        dirty.remove(chapters);
+        File recordingFile = chapters.getRecordingFile();
+        chapters.finish(finalRecordingFile);
+        if (chapters.isEmpty()) {
+            return;
+        }
+        scheduler.execute(() -> {
+            write(chapters);
+            if (!recordingFile.equals(finalRecordingFile)) {
+                RecordingChapters.delete(recordingFile);
+            }
+        });
+    }
+
+    private void flush() {
+        // Reset first so changes made during the flush schedule the next one
+        flushScheduled.set(false);
+        for (RecordingChapters chapters : dirty) {
+            dirty.remove(chapters);
+            write(chapters);
+        }
+    }
+
+    private static void write(RecordingChapters chapters) {
+        try {
+            chapters.write();
+        } catch (IOException e) {
+            System.err.println("Error writing chapters for " + chapters.getRecordingFile().getName() + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+/**
+ * The historical schedule: probe every check interval while offline and every 30 seconds
+ * while live, so a recorder that exits early is restarted quickly.
+ */
+public class FixedIntervalPolicy implements PollingPolicy {
+
+    static final long RECORDING_CHECK_MS = 30 * 1000L;
+
+    @Override
+    public long nextCheckDelayMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs) {
+        return live ? RECORDING_CHECK_MS : baseIntervalMs;
+    }
+
+    @Override
+    public long stableForMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs) {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return "fixed";
+    }
+}
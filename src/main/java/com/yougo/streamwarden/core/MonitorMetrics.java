@@ -0,0 +1,105 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.yougo.streamwarden.metrics.Counter;
+import com.yougo.streamwarden.metrics.Histogram;
+import com.yougo.streamwarden.metrics.MetricsRegistry;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Metric names and recording helpers shared by the monitoring engine.
+ * Durations are recorded in milliseconds and exported in seconds.
+ */
+final class MonitorMetrics {
+
+    static final String PURPOSE_PROBE = "probe";
+    static final String PURPOSE_TITLE = "title";
+    static final String PURPOSE_RECORD = "record";
+    static final String PURPOSE_RESOLVE = "resolve";
+
+    static final String COMPONENT_PROBE = "probe";
+    static final String COMPONENT_MONITOR = "monitor";
+    static final String COMPONENT_RECORDING = "recording";
+    static final String COMPONENT_MIGRATION = "migration";
+
+    private static final long MAX_PROBE_MS = 5 * 60 * 1000L;
+    private static final long MAX_RECORDING_MS = 48 * 60 * 60 * 1000L;
+    private static final long MAX_THROUGHPUT_BYTES_PER_SECOND = 1L << 30;
+
+    private static final MetricsRegistry registry = MetricsRegistry.get();
+
+    private static final Histogram detectToRecord = registry.histogram("streamwarden_detect_to_record_seconds",
+        "Time from detecting a live stream to the recorder process being started", MAX_PROBE_MS, 1000.0);
+    private static final Counter migrationBytes = registry.counter("streamwarden_migration_bytes_total",
+        "Bytes moved from the scratch directory to the archive");
+    private static final Histogram migrationDuration = registry.histogram("streamwarden_migration_duration_seconds",
+        "Duration of recording migrations to the archive", MAX_RECORDING_MS, 1000.0);
+
+    private MonitorMetrics() {
+    }
+
+    static void probeCompleted(String platform, String result, long durationMs) {
+        registry.histogram("streamwarden_probe_duration_seconds", "Duration of stream liveness probes",
+            MAX_PROBE_MS, 1000.0, "platform", platform).record(durationMs);
+        registry.counter("streamwarden_probes_total", "Stream liveness probes by result",
+            "platform", platform, "result", result).inc();
+    }
+
+    static void processSpawned(String purpose) {
+        registry.counter("streamwarden_process_spawns_total", "Streamlink processes started",
+            "purpose", purpose).inc();
+    }
+
+    static void detectedToRecording(long durationMs) {
+        detectToRecord.record(durationMs);
+    }
+
+    static void recordingCompleted(String platform, long bytes, long durationMs) {
+        registry.counter("streamwarden_recording_bytes_total", "Bytes written by completed recordings",
+            "platform", platform).add(bytes);
+        registry.histogram("streamwarden_recording_duration_seconds", "Duration of completed recordings",
+            MAX_RECORDING_MS, 1000.0, "platform", platform).record(durationMs);
+        if (durationMs > 0) {
+            registry.histogram("streamwarden_recording_throughput_bytes_per_second",
+                "Average write throughput of completed recordings", MAX_THROUGHPUT_BYTES_PER_SECOND, 1.0,
+                "platform", platform).record(bytes * 1000 / durationMs);
+        }
+    }
+
+    static void migrationCompleted(long bytes, long durationMs) {
+        migrationBytes.add(bytes);
+        migrationDuration.record(durationMs);
+    }
+
+    static void extraOutputDeferred() {
+        registry.counter("streamwarden_extra_outputs_deferred_total",
+            "Extra output starts put off because the concurrent extra output limit was reached").inc();
+    }
+
+    static void scheduleLookup(String result) {
+        registry.counter("streamwarden_schedule_lookups_total", "Scheduled start lookups of upcoming YouTube lives by result",
+            "result", result).inc();
+    }
+
+    static void error(String component) {
+        registry.counter("streamwarden_errors_total", "Errors by component", "component", component).inc();
+    }
+
+    static void retry(String component) {
+        registry.counter("streamwarden_retries_total", "Retried operations by component", "component", component).inc();
+    }
+
+    static void gauge(String name, String help, DoubleSupplier value) {
+        registry.gauge(name, help, value);
+    }
+}
@@ -10,22 +10,70 @@
 
 package com.yougo.streamwarden.core;
 
-import com.yougo.streamwarden.ChannelEntry;
 import com.yougo.streamwarden.config.AppSettings;
-import javafx.collections.ObservableList;
+import com.yougo.streamwarden.config.ChannelConfig;
+import com.yougo.streamwarden.logging.LogEntry;
+import com.yougo.streamwarden.logging.LogService;
 
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 public class MonitoringService {
     
+    // Overall bound for shutdown, and the part of it given to recorders to exit gracefully
+    private static final long SHUTDOWN_DEADLINE_MS = 10_000;
+    private static final long GRACEFUL_STOP_MS = 4_000;
+    
+    /**
+     * Outcome of stopping one channel during shutdown
+     */
+    public enum ShutdownOutcome {
+        IDLE,       // Nothing was recording
+        TERMINATED, // Recorder exited after graceful termination
+        KILLED,     // Recorder had to be force killed
+        TIMED_OUT   // Recorder was still alive when the deadline expired
+    }
+    
+    /**
+     * Listener notified as each channel finishes stopping during shutdown
+     */
+    public interface ShutdownListener {
+        void onChannelStopped(String channelKey, ShutdownOutcome outcome, int stopped, int total);
+    }
+    
     private final ExecutorService executorService;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>(); // All configured channels by key
     private final Map<String, StreamMonitor> activeMonitors;
     private final AppSettings settings;
-    private StreamMonitor.StatusCallback statusCallback;
+    private final RecordingMigrator migrator;
+    private final RecordingJournal journal;
+    private final Map<String, List<RecordingJournal.Entry>> orphanedRecordings = new ConcurrentHashMap<>();
+    private final OutputThrottle outputThrottle;
+    private final List<StreamMonitor.StatusCallback> statusListeners = new CopyOnWriteArrayList<>();
+    private final List<ChannelListener> channelListeners = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Listener notified when channels are added, edited or removed (from the UI or the API)
+     */
+    public interface ChannelListener {
+        void onChannelsChanged();
+    }
     
     public MonitoringService(AppSettings settings) {
         this.settings = settings;
@@ -36,42 +84,324 @@ public class MonitoringService {
             return t;
         });
         this.activeMonitors = new ConcurrentHashMap<>();
+        this.migrator = new RecordingMigrator(settings);
+        this.journal = new RecordingJournal();
+        this.outputThrottle = new OutputThrottle(settings);
+        
+        // Monitors share the settings instance, wake them so a changed check interval applies now
+        AppSettings.addChangeListener(this::onSettingsChanged);
+        registerMetrics();
     }
     
-    public void setStatusCallback(StreamMonitor.StatusCallback callback) {
-        this.statusCallback = callback;
+    /**
+     * Engine gauges, sampled from the monitor map at scrape time
+     */
+    private void registerMetrics() {
+        MonitorMetrics.gauge("streamwarden_channels", "Configured channels", channels::size);
+        MonitorMetrics.gauge("streamwarden_monitors_active", "Channels being monitored", activeMonitors::size);
+        MonitorMetrics.gauge("streamwarden_recordings_live", "Recordings in progress", 
+            () -> activeMonitors.values().stream().filter(StreamMonitor::isRecording).count());
+        MonitorMetrics.gauge("streamwarden_extra_outputs_live", "Extra outputs recording, counted by the throttle", 
+            outputThrottle::getActive);
+        MonitorMetrics.gauge("streamwarden_recording_file_bytes", "Bytes written so far by recordings in progress", 
+            () -> activeMonitors.values().stream()
+                .flatMap(monitor -> monitor.getRecordingFiles().stream())
+                .mapToLong(File::length)
+                .sum());
     }
     
-    public void startMonitoring(ChannelEntry channelEntry) {
-        String key = getChannelKey(channelEntry);
-
-        if (activeMonitors.containsKey(key)) {
-            System.out.println("Already monitoring: " + key);
+    /**
+     * Recover state left by a previous session, must complete before monitors are started.
+     * Kept out of the constructor so it can run in the background during startup.
+     */
+    public void initialize() {
+        // Find recorders left behind by a previous session that did not shut down cleanly
+        recoverOrphanedRecordings();
+        
+        // Pick up recordings a previous session left on the scratch directory
+        migrator.resumePending();
+    }
+    
+    private void onSettingsChanged() {
+        for (StreamMonitor monitor : activeMonitors.values()) {
+            monitor.onSettingsChanged();
+        }
+    }
+    
+    /**
+     * Replay the recording journal. Recorder processes that are still alive are kept aside to be
+     * adopted by their channel monitor, files of dead recorders are marked for verification.
+     */
+    private void recoverOrphanedRecordings() {
+        List<RecordingJournal.Entry> stillRunning = new ArrayList<>();
+        
+        for (RecordingJournal.Entry entry : journal.replayOpenRecordings()) {
+            Optional<ProcessHandle> process = ProcessHandle.of(entry.pid)
+                .filter(ProcessHandle::isAlive)
+                .filter(handle -> isSameRecorder(handle, entry));
+            
+            if (process.isPresent()) {
+                orphanedRecordings.computeIfAbsent(entry.channel, key -> new ArrayList<>()).add(entry);
+                stillRunning.add(entry);
+                logEvent(LogEntry.Level.INFO, LogEntry.EventType.RECOVERY, 
+                    String.format("Found running recorder from previous session for %s (PID %d)", entry.channel, entry.pid), 
+                    LogEntry.NO_DURATION);
+            } else {
+                markForVerification(entry);
+            }
+        }
+        
+        // Keep only the recordings that are still running in the journal
+        journal.compact(stillRunning);
+    }
+    
+    /**
+     * Guard against PID reuse: the process must look like streamlink and must not be younger than the journal entry
+     */
+    private boolean isSameRecorder(ProcessHandle handle, RecordingJournal.Entry entry) {
+        ProcessHandle.Info info = handle.info();
+        
+        Optional<Instant> startInstant = info.startInstant();
+        if (startInstant.isPresent() && startInstant.get().toEpochMilli() > entry.time + 60_000L) {
+            return false;
+        }
+        
+        String commandLine = info.commandLine().orElse(info.command().orElse(""));
+        return commandLine.isEmpty() || commandLine.toLowerCase().contains("streamlink");
+    }
+    
+    /**
+     * Rename a recording interrupted by a crash so it is clearly marked as possibly truncated
+     */
+    private void markForVerification(RecordingJournal.Entry entry) {
+        File file = entry.getFile();
+        if (!file.exists()) {
             return;
         }
+        
+        String name = file.getName();
+        int extensionIndex = name.lastIndexOf('.');
+        String markedName = extensionIndex > 0
+            ? name.substring(0, extensionIndex) + ".unverified" + name.substring(extensionIndex)
+            : name + ".unverified";
+        File markedFile = new File(file.getParentFile(), markedName);
+        
+        if (file.renameTo(markedFile)) {
+            logEvent(LogEntry.Level.WARN, LogEntry.EventType.RECOVERY, 
+                "Recording interrupted by a crash, marked for verification: " + markedFile.getAbsolutePath(), 
+                LogEntry.NO_DURATION);
+        } else {
+            markedFile = file;
+            logEvent(LogEntry.Level.WARN, LogEntry.EventType.RECOVERY, 
+                "Recording interrupted by a crash, could not be renamed: " + file.getAbsolutePath(), 
+                LogEntry.NO_DURATION);
+        }
+        
+        File archiveFile = entry.getArchiveFile();
+        if (archiveFile != null) {
+            migrator.submit(markedFile, new File(archiveFile.getParentFile(), markedFile.getName()));
+        }
+    }
+    
+    /**
+     * Terminate recorders from a previous session whose channel was removed or is no longer active.
+     * Recorders of active channels are kept for their monitor to adopt, even if monitoring is started later.
+     */
+    public void cleanupOrphanedRecordings() {
+        for (String key : orphanedRecordings.keySet()) {
+            Channel channel = channels.get(key);
+            if (channel == null || !channel.isActive()) {
+                stopOrphanedRecordings(key);
+            }
+        }
+    }
+    
+    /**
+     * Terminate the recorders from a previous session left for a channel: gracefully first,
+     * then the process tree is killed if still alive after GRACEFUL_STOP_MS. Does not wait.
+     */
+    private void stopOrphanedRecordings(String key) {
+        List<RecordingJournal.Entry> entries = orphanedRecordings.remove(key);
+        if (entries == null) {
+            return;
+        }
+        
+        for (RecordingJournal.Entry entry : entries) {
+            Optional<ProcessHandle> process = ProcessHandle.of(entry.pid);
+            if (process.isEmpty() || !process.get().isAlive()) {
+                journal.recordEnd(entry.channel, entry.pid, entry.getFile());
+                markForVerification(entry);
+                continue;
+            }
+            
+            ProcessHandle handle = process.get();
+            logEvent(LogEntry.Level.INFO, LogEntry.EventType.RECOVERY, 
+                String.format("Stopping orphaned recorder for %s (PID %d)", entry.channel, entry.pid), 
+                LogEntry.NO_DURATION);
+            handle.onExit().thenRun(() -> {
+                journal.recordEnd(entry.channel, entry.pid, entry.getFile());
+                markForVerification(entry);
+            });
+            handle.destroy();
+            CompletableFuture.delayedExecutor(GRACEFUL_STOP_MS, TimeUnit.MILLISECONDS).execute(() -> {
+                if (handle.isAlive()) {
+                    logEvent(LogEntry.Level.WARN, LogEntry.EventType.RECOVERY, 
+                        String.format("Orphaned recorder for %s (PID %d) did not terminate gracefully, forcing kill", 
+                            entry.channel, entry.pid), LogEntry.NO_DURATION);
+                    handle.descendants().forEach(ProcessHandle::destroyForcibly);
+                    handle.destroyForcibly();
+                }
+            });
+        }
+    }
+    
+    /**
+     * Register a listener for status changes, called on monitor threads
+     */
+    public void addStatusListener(StreamMonitor.StatusCallback listener) {
+        statusListeners.add(listener);
+    }
+    
+    public void addChannelListener(ChannelListener listener) {
+        channelListeners.add(listener);
+    }
+    
+    private void notifyStatusChanged(Channel channel, ChannelStatus status) {
+        for (StreamMonitor.StatusCallback listener : statusListeners) {
+            listener.onStatusChanged(channel, status);
+        }
+    }
+    
+    private void notifyChannelsChanged() {
+        for (ChannelListener listener : channelListeners) {
+            listener.onChannelsChanged();
+        }
+    }
+    
+    /**
+     * Replace the configured channels with the saved ones, without persisting them again
+     */
+    public void loadChannels(List<Channel> savedChannels) {
+        for (Channel channel : savedChannels) {
+            channels.put(channel.getKey(), channel);
+        }
+        notifyChannelsChanged();
+    }
+    
+    /**
+     * Snapshot of all configured channels, sorted by key
+     */
+    public List<Channel> getChannels() {
+        List<Channel> snapshot = new ArrayList<>(channels.values());
+        snapshot.sort(Comparator.comparing(Channel::getKey));
+        return snapshot;
+    }
+    
+    public Channel getChannel(String key) {
+        return channels.get(key);
+    }
+    
+    /**
+     * Add a channel, save it and start monitoring it if it is active
+     */
+    public void addChannel(Channel channel) {
+        channels.put(channel.getKey(), channel);
+        ChannelConfig.addChannel(channel);
+        if (channel.isActive()) {
+            startMonitoring(channel);
+        }
+        notifyChannelsChanged();
+    }
+    
+    /**
+     * Replace the channel previously known under the given key, save it and apply the change
+     * to its monitor: edits of the same channel are applied in place, keeping a running recording
+     */
+    public void updateChannel(String previousKey, Channel channel) {
+        channels.remove(previousKey);
+        channels.put(channel.getKey(), channel);
+        ChannelConfig.updateChannel(previousKey, channel);
+        
+        StreamMonitor monitor = activeMonitors.get(previousKey);
+        if (!channel.isActive() || !previousKey.equals(channel.getKey())) {
+            if (monitor != null) {
+                stopMonitoring(previousKey);
+                monitor = null;
+            }
+            stopOrphanedRecordings(previousKey); // Not adopted under the previous key anymore
+        }
+        if (monitor != null) {
+            monitor.updateChannel(channel);
+        } else if (channel.isActive()) {
+            startMonitoring(channel);
+        }
+        notifyChannelsChanged();
+    }
+    
+    /**
+     * Remove a channel, stopping its monitor, and save
+     */
+    public void removeChannel(String key) {
+        Channel channel = channels.remove(key);
+        stopMonitoring(key);
+        stopOrphanedRecordings(key);
+        if (channel != null) {
+            ChannelConfig.removeChannel(channel);
+            notifyChannelsChanged();
+        }
+    }
+    
+    public void startMonitoring(Channel channel) {
+        String key = channel.getKey();
+        channels.putIfAbsent(key, channel);
 
-        StreamMonitor monitor = new StreamMonitor(channelEntry, settings);
-        monitor.setStatusCallback(statusCallback);
+        StreamMonitor monitor = new StreamMonitor(channel, settings, migrator, journal);
+        // Called from the UI and the API threads, only the monitor registered first is started
+        if (activeMonitors.putIfAbsent(key, monitor) != null) {
+            logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.MONITOR, "Already monitoring: " + key, LogEntry.NO_DURATION);
+            return;
+        }
+        monitor.setStatusCallback(this::notifyStatusChanged);
+        monitor.setOutputThrottle(outputThrottle);
+        
+        // Take over recorders still running from a previous session instead of starting duplicates
+        List<RecordingJournal.Entry> orphans = orphanedRecordings.remove(key);
+        if (orphans != null) {
+            for (RecordingJournal.Entry orphan : orphans) {
+                Optional<ProcessHandle> process = ProcessHandle.of(orphan.pid).filter(ProcessHandle::isAlive);
+                if (process.isPresent()) {
+                    monitor.adoptRecording(process.get(), orphan.getFile(), orphan.getArchiveFile(), orphan.output);
+                } else {
+                    journal.recordEnd(orphan.channel, orphan.pid, orphan.getFile());
+                    markForVerification(orphan);
+                }
+            }
+        }
 
-        activeMonitors.put(key, monitor);
         executorService.submit(monitor);
 
-        System.out.println("Started monitoring: " + key);
+        logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.MONITOR, "Started monitoring: " + key, LogEntry.NO_DURATION);
+    }
+    
+    public void stopMonitoring(Channel channel) {
+        stopMonitoring(channel.getKey());
     }
     
-    public void stopMonitoring(ChannelEntry channelEntry) {
-        String key = getChannelKey(channelEntry);
+    public void stopMonitoring(String key) {
         StreamMonitor monitor = activeMonitors.remove(key);
         
         if (monitor != null) {
             monitor.stop();
-            System.out.println("Stopped monitoring: " + key);
+            logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.MONITOR, "Stopped monitoring: " + key, LogEntry.NO_DURATION);
         }
     }
     
-    public void startAllActiveChannels(ObservableList<ChannelEntry> channels) {
-        for (ChannelEntry channel : channels) {
-            if (channel.getIsActive()) {
+    /**
+     * Start monitoring all configured channels that are active
+     */
+    public void startAllActiveChannels() {
+        for (Channel channel : getChannels()) {
+            if (channel.isActive()) {
                 startMonitoring(channel);
             }
         }
@@ -82,48 +412,151 @@ public class MonitoringService {
             monitor.stop();
         }
         activeMonitors.clear();
-        System.out.println("Stopped all monitoring");
+        logMessage("Stopped all monitoring");
     }
     
-    public boolean isMonitoring(ChannelEntry channelEntry) {
-        String key = getChannelKey(channelEntry);
+    public boolean isMonitoring(Channel channel) {
+        return isMonitoring(channel.getKey());
+    }
+    
+    public boolean isMonitoring(String key) {
         StreamMonitor monitor = activeMonitors.get(key);
         return monitor != null && monitor.isRunning();
     }
     
-    public void shutdown() {
-        logMessage("Shutting down monitoring service...");
+    /**
+     * Shut down all monitors with the default overall deadline
+     */
+    public Map<String, ShutdownOutcome> shutdown() {
+        return shutdown(null);
+    }
+    
+    /**
+     * Shut down all monitors. Every recorder is asked to terminate at the same time, the ones still
+     * alive after the grace period are force killed in parallel, and the whole operation is bounded
+     * by SHUTDOWN_DEADLINE_MS regardless of how many channels are live.
+     * Returns the outcome for each channel that was monitored.
+     */
+    public Map<String, ShutdownOutcome> shutdown(ShutdownListener listener) {
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.SHUTDOWN, "Shutting down monitoring service...", LogEntry.NO_DURATION);
         
-        // Stop all monitors and force stop their recording processes
-        for (StreamMonitor monitor : activeMonitors.values()) {
-            monitor.stop();
-        }
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_DEADLINE_MS);
+        long graceDeadline = startNanos + TimeUnit.MILLISECONDS.toNanos(GRACEFUL_STOP_MS);
         
+        Map<String, StreamMonitor> monitors = new HashMap<>(activeMonitors);
         activeMonitors.clear();
         
-        // Shutdown executor service
-        executorService.shutdown();
-        try {
-            // Wait a bit for tasks to terminate
-            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
-                logMessage("Executor did not terminate gracefully, forcing shutdown...");
-                executorService.shutdownNow();
-                // Wait a bit more
-                if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
-                    logMessage("Executor did not terminate after forced shutdown!");
+        Map<String, ShutdownOutcome> outcomes = new ConcurrentHashMap<>();
+        AtomicInteger stoppedCount = new AtomicInteger();
+        int total = monitors.size();
+        BiConsumer<String, ShutdownOutcome> report = (key, outcome) -> {
+            if (outcomes.putIfAbsent(key, outcome) == null && listener != null) {
+                listener.onChannelStopped(key, outcome, stoppedCount.incrementAndGet(), total);
+            }
+        };
+        
+        // Signal every monitor at once so all recorders (main and extra outputs) terminate concurrently.
+        // Built-in HLS recordings can't be killed, they are waited for until the deadline.
+        Map<String, List<ProcessHandle>> recorders = new HashMap<>();
+        Map<String, CompletableFuture<Void>> finished = new HashMap<>();
+        monitors.forEach((key, monitor) -> {
+            List<ProcessHandle> processes = monitor.requestStop();
+            List<CompletableFuture<File>> builtInRecordings = monitor.getBuiltInRecordings();
+            if (!processes.isEmpty() || !builtInRecordings.isEmpty()) {
+                recorders.put(key, processes);
+                finished.put(key, CompletableFuture.allOf(allExited(processes), 
+                    CompletableFuture.allOf(builtInRecordings.toArray(new CompletableFuture<?>[0]))));
+            } else {
+                report.accept(key, ShutdownOutcome.IDLE);
+            }
+        });
+        
+        // Wait for graceful termination, bounded by the grace period. A channel is done once all its recorders exited.
+        List<CompletableFuture<Void>> exits = new ArrayList<>();
+        finished.forEach((key, done) -> 
+            exits.add(done.thenRun(() -> report.accept(key, ShutdownOutcome.TERMINATED))));
+        awaitAll(exits, graceDeadline);
+        
+        // Escalate to a process tree kill for the remaining recorders, in parallel
+        List<CompletableFuture<Void>> kills = new ArrayList<>();
+        recorders.forEach((key, processes) -> {
+            if (!outcomes.containsKey(key)) {
+                boolean killed = false;
+                for (ProcessHandle process : processes) {
+                    if (process.isAlive()) {
+                        killed = true;
+                        kills.add(CompletableFuture.runAsync(() -> monitors.get(key).forceStop(process)));
+                    }
                 }
+                ShutdownOutcome outcome = killed ? ShutdownOutcome.KILLED : ShutdownOutcome.TERMINATED;
+                kills.add(finished.get(key).thenRun(() -> report.accept(key, outcome)));
+            }
+        });
+        awaitAll(kills, deadline);
+        
+        recorders.keySet().forEach(key -> report.accept(key, ShutdownOutcome.TIMED_OUT));
+        monitors.values().forEach(StreamMonitor::completeStop);
+        
+        // Monitor threads are sleeping between checks, interrupt them right away
+        executorService.shutdownNow();
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            if (!executorService.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                logMessage("Executor did not terminate before the shutdown deadline!");
             }
         } catch (InterruptedException e) {
             logMessage("Shutdown interrupted, forcing immediate shutdown...");
-            executorService.shutdownNow();
             Thread.currentThread().interrupt();
         }
         
-        logMessage("Monitoring service shutdown complete.");
+        // Unfinished migrations stay on scratch and are resumed on next start
+        migrator.shutdown();
+        
+        outcomes.forEach((key, outcome) -> {
+            if (outcome != ShutdownOutcome.IDLE) {
+                logEvent(outcome == ShutdownOutcome.TIMED_OUT ? LogEntry.Level.WARN : LogEntry.Level.INFO, 
+                    LogEntry.EventType.SHUTDOWN, String.format("Shutdown %s: %s", key, outcome), LogEntry.NO_DURATION);
+            }
+        });
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.SHUTDOWN, 
+            String.format("Monitoring service shutdown complete in %d ms.", elapsedMs), elapsedMs);
+        return outcomes;
+    }
+    
+    /**
+     * Wait for all futures to complete, giving up at the given System.nanoTime() deadline
+     */
+    private void awaitAll(List<CompletableFuture<Void>> futures, long deadline) {
+        if (futures.isEmpty()) {
+            return;
+        }
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Stragglers are handled by the caller
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
     
-    private String getChannelKey(ChannelEntry channelEntry) {
-        return channelEntry.getPlatform() + ":" + channelEntry.getChannelName();
+    private static CompletableFuture<Void> allExited(List<ProcessHandle> processes) {
+        return CompletableFuture.allOf(processes.stream().map(ProcessHandle::onExit).toArray(CompletableFuture[]::new));
+    }
+    
+    public boolean isRecording(String key) {
+        StreamMonitor monitor = activeMonitors.get(key);
+        return monitor != null && monitor.isRecording();
+    }
+    
+    /**
+     * Current status of a channel, IDLE if it is not monitored
+     */
+    public ChannelStatus getStatus(String key) {
+        StreamMonitor monitor = activeMonitors.get(key);
+        return monitor != null ? monitor.getStatus() : ChannelStatus.IDLE;
     }
     
     public Map<String, StreamMonitor> getActiveMonitors() {
@@ -131,6 +564,10 @@ public class MonitoringService {
     }
     
     private void logMessage(String message) {
-        System.out.println(message);
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.GENERAL, message, LogEntry.NO_DURATION);
+    }
+    
+    private void logEvent(LogEntry.Level level, LogEntry.EventType eventType, String message, long durationMs) {
+        LogService.get().log(LogEntry.system(level, eventType, message, durationMs));
     }
 }
\ No newline at end of file
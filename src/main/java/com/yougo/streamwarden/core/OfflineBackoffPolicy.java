@@ -0,0 +1,51 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+/**
+ * Doubles the offline interval for every backoffStepMs a channel stays offline, up to maxFactor
+ * times the check interval. Dormant channels cost fewer probes at the price of later detection.
+ */
+public class OfflineBackoffPolicy implements PollingPolicy {
+
+    private final long backoffStepMs;
+    private final int maxShift;
+
+    public OfflineBackoffPolicy(long backoffStepMs, int maxFactor) {
+        this.backoffStepMs = backoffStepMs;
+        this.maxShift = 31 - Integer.numberOfLeadingZeros(Math.max(1, maxFactor));
+    }
+
+    @Override
+    public long nextCheckDelayMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs) {
+        if (live) {
+            return FixedIntervalPolicy.RECORDING_CHECK_MS;
+        }
+        return baseIntervalMs << shift(sinceChangeMs);
+    }
+
+    @Override
+    public long stableForMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs) {
+        if (live || shift(sinceChangeMs) == maxShift) {
+            return Long.MAX_VALUE;
+        }
+        return backoffStepMs - sinceChangeMs % backoffStepMs;
+    }
+
+    private int shift(long sinceChangeMs) {
+        return (int) Math.min(maxShift, Math.max(0, sinceChangeMs) / backoffStepMs);
+    }
+
+    @Override
+    public String toString() {
+        return "backoff";
+    }
+}
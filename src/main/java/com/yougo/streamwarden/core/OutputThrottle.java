@@ -0,0 +1,48 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.yougo.streamwarden.config.AppSettings;
+
+/**
+ * Caps the number of extra outputs recording at once across all monitors, so a wave of channels
+ * going live doesn't multiply downloads and disk writes. Main outputs never go through it.
+ * The limit is read from the settings on each acquire, a change applies to the next start.
+ */
+final class OutputThrottle {
+
+    private final AppSettings settings;
+    private int active = 0;
+
+    OutputThrottle(AppSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Take a slot if the limit allows it, every successful call must be paired with release()
+     */
+    synchronized boolean tryAcquire() {
+        int limit = settings.getMaxExtraOutputs();
+        if (limit > 0 && active >= limit) {
+            return false;
+        }
+        active++;
+        return true;
+    }
+
+    synchronized void release() {
+        active = Math.max(0, active - 1);
+    }
+
+    synchronized int getActive() {
+        return active;
+    }
+}
@@ -0,0 +1,35 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+/**
+ * Decides how long a monitor waits before probing its channel again.
+ * Implementations must be stateless, one instance is shared by every monitor.
+ */
+public interface PollingPolicy {
+
+    /**
+     * @param live result of the last probe
+     * @param recording whether a recorder is running for the channel
+     * @param baseIntervalMs check interval from the settings
+     * @param sinceChangeMs time since the live state last changed, or since monitoring started
+     * @return delay before the next probe in milliseconds, at least 1
+     */
+    long nextCheckDelayMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs);
+
+    /**
+     * How much longer the delay returned for the same arguments stays unchanged as sinceChangeMs grows.
+     * Simulations use it to skip idle stretches in one step; 0 means it has to be asked again on every check.
+     */
+    default long stableForMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs) {
+        return 0;
+    }
+}
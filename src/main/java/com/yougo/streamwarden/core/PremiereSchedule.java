@@ -0,0 +1,178 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Scheduled start of an upcoming YouTube live or premiere, as announced on the channel's /live page.
+ * Streamlink only reports that there is no playable stream yet, so the start time is read from the
+ * page's offline slate with one HTTP request, at most every LOOKUP_INTERVAL_MS per channel.
+ * While a start is known the monitor skips probes until LEAD_MS before it, then polls every
+ * RAPID_POLL_MS until the stream goes live or GRACE_MS past the announced time.
+ */
+final class PremiereSchedule {
+
+    static final long LEAD_MS = 2 * 60 * 1000L;
+    static final long RAPID_POLL_MS = 10 * 1000L;
+    static final long GRACE_MS = 30 * 60 * 1000L;
+    static final long LOOKUP_INTERVAL_MS = 15 * 60 * 1000L;
+
+    private static final String USER_AGENT =
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/126.0 Safari/537.36";
+    private static final String SLATE_MARKER = "\"liveStreamOfflineSlateRenderer\"";
+    private static final int SLATE_SEARCH_CHARS = 2000;
+    private static final Pattern SCHEDULED_START = Pattern.compile("\"scheduledStartTime\":\"(\\d+)\"");
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .executor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("ScheduleLookup");
+            return t;
+        }))
+        .build();
+
+    private final TimeSource timeSource;
+    private boolean lookedUp = false;
+    private long lastLookupNanos;
+    private boolean known = false;
+    private long startNanos;
+
+    PremiereSchedule(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Look the schedule up again if the last lookup is older than LOOKUP_INTERVAL_MS.
+     * Returns true if a lookup was made.
+     */
+    synchronized boolean refresh(String channelUrl) throws IOException, InterruptedException {
+        long now = timeSource.nanoTime();
+        if (lookedUp && now - lastLookupNanos < TimeUnit.MILLISECONDS.toNanos(LOOKUP_INTERVAL_MS)) {
+            return false;
+        }
+        lookedUp = true;
+        lastLookupNanos = now;
+        long startEpochMs = fetchScheduledStart(channelUrl);
+        // Past starts are kept for the grace period, premieres often begin a few minutes late
+        known = startEpochMs > 0 && startEpochMs + GRACE_MS > System.currentTimeMillis();
+        if (known) {
+            startNanos = now + TimeUnit.MILLISECONDS.toNanos(startEpochMs - System.currentTimeMillis());
+        }
+        return true;
+    }
+
+    /**
+     * Forget the schedule once the stream is live, the next one is looked up when it goes offline
+     */
+    synchronized void clear() {
+        known = false;
+        lookedUp = false;
+    }
+
+    /**
+     * Whether the announced start is far enough away to skip probing
+     */
+    synchronized boolean isBeforeWindow() {
+        return known && timeSource.nanoTime() < startNanos - TimeUnit.MILLISECONDS.toNanos(LEAD_MS);
+    }
+
+    synchronized boolean isKnown() {
+        return known;
+    }
+
+    /**
+     * Milliseconds from now until the announced start, negative once it has passed
+     */
+    synchronized long millisUntilStart() {
+        return TimeUnit.NANOSECONDS.toMillis(startNanos - timeSource.nanoTime());
+    }
+
+    /**
+     * Adjust the offline delay of the polling policy for a wait that began at fromNanos: sleep until the
+     * window opens (waking up for the next lookup), poll rapidly inside it, unchanged without a schedule
+     */
+    synchronized long nextCheckDelayMs(long policyDelayMs, long fromNanos) {
+        if (!known) {
+            return policyDelayMs;
+        }
+        long windowOpensMs = TimeUnit.NANOSECONDS.toMillis(startNanos - fromNanos) - LEAD_MS;
+        if (windowOpensMs > 0) {
+            return Math.min(windowOpensMs, LOOKUP_INTERVAL_MS);
+        }
+        if (timeSource.nanoTime() - startNanos < TimeUnit.MILLISECONDS.toNanos(GRACE_MS)) {
+            return Math.min(policyDelayMs, RAPID_POLL_MS);
+        }
+        known = false; // Did not start within the grace period, back to the regular schedule
+        return policyDelayMs;
+    }
+
+    /**
+     * Fetch the /live page and return the announced start in epoch milliseconds, -1 if nothing is scheduled
+     */
+    static long fetchScheduledStart(String channelUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(channelUrl))
+            .timeout(Duration.ofSeconds(15))
+            .header("User-Agent", USER_AGENT)
+            .header("Accept-Language", "en")
+            .header("Accept-Encoding", "gzip")
+            .header("Cookie", "SOCS=CAI") // Skip the cookie consent interstitial
+            .GET()
+            .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream raw = response.body()) {
+            if (response.statusCode() != 200) {
+                return -1;
+            }
+            boolean gzip = response.headers().firstValue("Content-Encoding").filter("gzip"::equalsIgnoreCase).isPresent();
+            InputStream body = gzip ? new GZIPInputStream(raw) : raw;
+            ByteArrayOutputStream page = new ByteArrayOutputStream(512 * 1024);
+            body.transferTo(page);
+            return parseScheduledStart(page.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Scheduled start from the offline slate of an upcoming broadcast, in epoch milliseconds, -1 if absent.
+     * Other videos listed on the page have no offline slate, so their start times are not picked up.
+     */
+    static long parseScheduledStart(String page) {
+        int slate = page.indexOf(SLATE_MARKER);
+        if (slate < 0) {
+            return -1;
+        }
+        Matcher matcher = SCHEDULED_START.matcher(page).region(slate, Math.min(page.length(), slate + SLATE_SEARCH_CHARS));
+        if (!matcher.find()) {
+            return -1;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(matcher.group(1)));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
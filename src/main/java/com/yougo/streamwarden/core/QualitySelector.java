@@ -0,0 +1,109 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Picks the stream to record from the variants a probe reported, e.g. [audio_only, 160p, 720p60, 1080p60, worst, best].
+ * The best match is the highest resolution not above the channel's quality; with the high FPS setting the
+ * highest frame rate wins, otherwise variants of 30 fps or less are preferred at any resolution.
+ * Each monitor keeps one selector, the decision is reused until the variant set or the preference changes.
+ */
+final class QualitySelector {
+
+    private static final Pattern VARIANT = Pattern.compile("(\\d+)p(\\d+)?");
+    private static final int DEFAULT_FPS = 30;
+    private static final int STANDARD_FPS_LIMIT = 30;
+
+    private List<String> cachedAvailable;
+    private String cachedRequested;
+    private boolean cachedHighFps;
+    private String cachedSelection;
+
+    /**
+     * @return the stream name to pass to streamlink, or null if the list gives nothing to choose from
+     */
+    synchronized String select(String requested, boolean highFps, List<String> available) {
+        if (cachedAvailable == null || !cachedAvailable.equals(available)
+                || !requested.equals(cachedRequested) || highFps != cachedHighFps) {
+            cachedAvailable = List.copyOf(available);
+            cachedRequested = requested;
+            cachedHighFps = highFps;
+            cachedSelection = choose(requested, highFps, available);
+        }
+        return cachedSelection;
+    }
+
+    static String choose(String requested, boolean highFps, List<String> available) {
+        if (available.isEmpty()) {
+            return null;
+        }
+        int maxHeight = height(requested);
+        if (maxHeight < 0) {
+            // Not a resolution (e.g. a custom stream name), taken as is or left to the fallback chain
+            return available.contains(requested) ? requested : null;
+        }
+
+        String best = null;
+        int bestHeight = -1;
+        int bestFps = -1;
+        for (String name : available) {
+            Matcher m = VARIANT.matcher(name);
+            if (!m.matches()) {
+                continue; // audio_only, best/worst aliases, _alt variants
+            }
+            int variantHeight = Integer.parseInt(m.group(1));
+            int variantFps = m.group(2) != null ? Integer.parseInt(m.group(2)) : DEFAULT_FPS;
+            if (variantHeight > maxHeight) {
+                continue;
+            }
+            if (best == null || isBetter(variantHeight, variantFps, bestHeight, bestFps, highFps)) {
+                best = name;
+                bestHeight = variantHeight;
+                bestFps = variantFps;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        // Everything offered is above the requested quality, take the smallest
+        return available.contains("worst") ? "worst" : null;
+    }
+
+    private static boolean isBetter(int height, int fps, int bestHeight, int bestFps, boolean highFps) {
+        if (!highFps) {
+            boolean standard = fps <= STANDARD_FPS_LIMIT;
+            boolean bestStandard = bestFps <= STANDARD_FPS_LIMIT;
+            if (standard != bestStandard) {
+                return standard;
+            }
+        }
+        if (height != bestHeight) {
+            return height > bestHeight;
+        }
+        // Same resolution: highest frame rate, except that without high FPS the lowest above 30 is taken
+        return !highFps && fps > STANDARD_FPS_LIMIT ? fps < bestFps : fps > bestFps;
+    }
+
+    /**
+     * Vertical resolution of a quality setting ("4k", "1080p", "720p60"), -1 if it isn't one
+     */
+    static int height(String quality) {
+        if ("4k".equalsIgnoreCase(quality)) {
+            return 2160;
+        }
+        Matcher m = VARIANT.matcher(quality);
+        return m.matches() ? Integer.parseInt(m.group(1)) : -1;
+    }
+}
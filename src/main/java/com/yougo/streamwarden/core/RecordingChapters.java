@@ -0,0 +1,195 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.yougo.streamwarden.config.DebouncedFileWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title and category changes seen during one recording, with their offsets from the recording start.
+ * Written next to the recording as `<name>.chapters.json` and `<name>.ffmetadata` (ffmpeg FFMETADATA1,
+ * e.g. `ffmpeg -i rec.ts -i rec.ffmetadata -map_metadata 1 -map_chapters 1 -c copy rec.mkv`).
+ */
+final class RecordingChapters {
+
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * One chapter, serialized as is to the JSON sidecar
+     */
+    static final class Chapter {
+        final long startMs;
+        final String title;
+        final String category;
+
+        Chapter(long startMs, String title, String category) {
+            this.startMs = startMs;
+            this.title = title;
+            this.category = category;
+        }
+    }
+
+    /**
+     * Layout of the JSON sidecar
+     */
+    private static final class Document {
+        String recording;
+        long durationMs;
+        boolean complete;
+        List<Chapter> chapters;
+    }
+
+    private final TimeSource timeSource;
+    private final long startNanos;
+    private final List<Chapter> chapters = new ArrayList<>();
+    private File recordingFile;
+    private long endMs = -1;
+
+    RecordingChapters(File recordingFile, TimeSource timeSource, long startNanos) {
+        this.recordingFile = recordingFile;
+        this.timeSource = timeSource;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Start a new chapter if the title or category differs from the current one.
+     * Returns the new chapter, null if nothing changed or the metadata is empty.
+     */
+    synchronized Chapter update(String title, String category) {
+        if (endMs >= 0 || (title == null && category == null)) {
+            return null;
+        }
+        Chapter last = chapters.isEmpty() ? null : chapters.get(chapters.size() - 1);
+        if (last != null && Objects.equals(last.title, title) && Objects.equals(last.category, category)) {
+            return null;
+        }
+        // The first chapter always starts at the beginning of the file
+        Chapter chapter = new Chapter(last == null ? 0 : elapsedMs(), title, category);
+        chapters.add(chapter);
+        return chapter;
+    }
+
+    /**
+     * Close the last chapter at the current offset and move the sidecars next to the final
+     * location of the recording (the archive when storage tiering is used)
+     */
+    synchronized void finish(File finalRecordingFile) {
+        if (endMs < 0) {
+            endMs = elapsedMs();
+        }
+        recordingFile = finalRecordingFile;
+    }
+
+    synchronized boolean isEmpty() {
+        return chapters.isEmpty();
+    }
+
+    /**
+     * Write both sidecars for the chapters so far, an unfinished recording ends at the current offset
+     */
+    void write() throws IOException {
+        File target;
+        String json;
+        String ffmetadata;
+        synchronized (this) {
+            if (chapters.isEmpty()) {
+                return;
+            }
+            long durationMs = endMs >= 0 ? endMs : elapsedMs();
+            target = recordingFile;
+            json = toJson(durationMs);
+            ffmetadata = toFfmetadata(durationMs);
+        }
+        DebouncedFileWriter.writeAtomically(sidecar(target, ".chapters.json"), json);
+        DebouncedFileWriter.writeAtomically(sidecar(target, ".ffmetadata"), ffmetadata);
+    }
+
+    /**
+     * Remove the sidecars written for a recording file, used once they have been rewritten elsewhere
+     */
+    static void delete(File recordingFile) {
+        sidecar(recordingFile, ".chapters.json").delete();
+        sidecar(recordingFile, ".ffmetadata").delete();
+    }
+
+    static File sidecar(File recordingFile, String extension) {
+        String name = recordingFile.getName();
+        int extensionIndex = name.lastIndexOf('.');
+        String base = extensionIndex > 0 ? name.substring(0, extensionIndex) : name;
+        return new File(recordingFile.getParentFile(), base + extension);
+    }
+
+    synchronized File getRecordingFile() {
+        return recordingFile;
+    }
+
+    long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - startNanos);
+    }
+
+    private String toJson(long durationMs) {
+        Document document = new Document();
+        document.recording = recordingFile.getName();
+        document.durationMs = durationMs;
+        document.complete = endMs >= 0;
+        document.chapters = chapters;
+        return gson.toJson(document);
+    }
+
+    /**
+     * ffmpeg metadata, chapters end where the next one starts and the last one at the end of the recording
+     */
+    private String toFfmetadata(long durationMs) {
+        StringBuilder out = new StringBuilder(";FFMETADATA1\n");
+        for (int i = 0; i < chapters.size(); i++) {
+            Chapter chapter = chapters.get(i);
+            long end = i + 1 < chapters.size() ? chapters.get(i + 1).startMs : durationMs;
+            out.append("\n[CHAPTER]\nTIMEBASE=1/1000\n")
+                .append("START=").append(chapter.startMs).append('\n')
+                .append("END=").append(Math.max(chapter.startMs, end)).append('\n')
+                .append("title=").append(escape(describe(chapter))).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * "Title (Category)", or whichever of the two is known
+     */
+    static String describe(Chapter chapter) {
+        if (chapter.title == null) {
+            return chapter.category;
+        }
+        return chapter.category != null ? chapter.title + " (" + chapter.category + ")" : chapter.title;
+    }
+
+    /**
+     * Backslash-escape the characters with a meaning in the ffmetadata format
+     */
+    private static String escape(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '=' || c == ';' || c == '#' || c == '\\' || c == '\n') {
+                out.append('\\');
+            }
+            out.append(c);
+        }
+        return out.toString();
+    }
+}
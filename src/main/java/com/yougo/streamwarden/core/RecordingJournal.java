@@ -0,0 +1,194 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only journal of recording lifecycle events (one JSON object per line).
+ * Replayed on startup to find recordings that were still running when the application died.
+ */
+public class RecordingJournal {
+
+    private static final String CONFIG_DIR = "config";
+    private static final String JOURNAL_FILE = CONFIG_DIR + File.separator + "recordings.journal";
+    private static final Gson gson = new Gson();
+
+    public static final String EVENT_START = "START";
+    public static final String EVENT_END = "END";
+
+    /**
+     * A single journal line
+     */
+    public static class Entry {
+        public String event;
+        public String channel;
+        public long pid;
+        public String file;
+        public String archiveFile;
+        public String output; // Quality of an extra output, absent for the main output
+        public long time;
+
+        public Entry() {}
+
+        Entry(String event, String channel, String output, long pid, File file, File archiveFile) {
+            this.event = event;
+            this.channel = channel;
+            this.output = output;
+            this.pid = pid;
+            this.file = file.getAbsolutePath();
+            this.archiveFile = archiveFile != null ? archiveFile.getAbsolutePath() : null;
+            this.time = System.currentTimeMillis();
+        }
+
+        public File getFile() {
+            return new File(file);
+        }
+
+        public File getArchiveFile() {
+            return archiveFile != null ? new File(archiveFile) : null;
+        }
+
+        private String recordingId() {
+            return pid + "|" + file;
+        }
+    }
+
+    private final File journalFile;
+
+    public RecordingJournal() {
+        this(new File(JOURNAL_FILE));
+    }
+
+    public RecordingJournal(File journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Record that a recorder process was started for a channel
+     */
+    public void recordStart(String channelKey, long pid, File file, File archiveFile) {
+        recordStart(channelKey, null, pid, file, archiveFile);
+    }
+
+    /**
+     * Record that a recorder process was started for an output of a channel, null for the main output
+     */
+    public void recordStart(String channelKey, String output, long pid, File file, File archiveFile) {
+        append(new Entry(EVENT_START, channelKey, output, pid, file, archiveFile));
+    }
+
+    /**
+     * Record that a recorder process has ended (duplicates are harmless)
+     */
+    public void recordEnd(String channelKey, long pid, File file) {
+        append(new Entry(EVENT_END, channelKey, null, pid, file, null));
+    }
+
+    private synchronized void append(Entry entry) {
+        byte[] line = (gson.toJson(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(line));
+            // Lifecycle events are rare, make each one durable so it survives a crash
+            channel.force(false);
+        } catch (IOException e) {
+            System.err.println("Error writing recording journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replay the journal and return the START entries that have no matching END
+     */
+    public synchronized List<Entry> replayOpenRecordings() {
+        Map<String, Entry> open = new LinkedHashMap<>();
+        if (!journalFile.exists()) {
+            return new ArrayList<>();
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(journalFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Entry entry;
+                try {
+                    entry = gson.fromJson(line, Entry.class);
+                } catch (JsonParseException e) {
+                    // A torn last line from a crash mid-append, skip it
+                    continue;
+                }
+                if (entry == null || entry.file == null) {
+                    continue;
+                }
+                if (EVENT_START.equals(entry.event)) {
+                    open.put(entry.recordingId(), entry);
+                } else if (EVENT_END.equals(entry.event)) {
+                    open.remove(entry.recordingId());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading recording journal: " + e.getMessage());
+        }
+
+        return new ArrayList<>(open.values());
+    }
+
+    /**
+     * Rewrite the journal so it only contains the given still-open recordings
+     */
+    public synchronized void compact(List<Entry> openEntries) {
+        File tempFile = new File(journalFile.getPath() + ".tmp");
+        StringBuilder content = new StringBuilder();
+        for (Entry entry : openEntries) {
+            content.append(gson.toJson(entry)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        } catch (IOException e) {
+            System.err.println("Error compacting recording journal: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(tempFile.toPath(), journalFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(tempFile.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException ex) {
+                System.err.println("Error compacting recording journal: " + ex.getMessage());
+            }
+        } catch (IOException e) {
+            System.err.println("Error compacting recording journal: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.yougo.streamwarden.config.AppSettings;
+import com.yougo.streamwarden.logging.LogEntry;
+import com.yougo.streamwarden.logging.LogService;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves completed recordings from the scratch directory to the output (archive) directory.
+ * Uses an atomic rename when both directories share a file system, otherwise a throttled
+ * zero-copy transfer to a temporary file followed by an atomic rename.
+ */
+public class RecordingMigrator {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BASE_DELAY_SECONDS = 30;
+    private static final long ARCHIVE_FULL_RETRY_MINUTES = 10;
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final long SPACE_MARGIN_BYTES = 64L * 1024 * 1024;
+    private static final long STALE_FILE_MINUTES = 5;
+    private static final String PART_SUFFIX = ".part";
+
+    private final AppSettings settings;
+    private final ScheduledExecutorService executor;
+
+    public RecordingMigrator(AppSettings settings) {
+        this.settings = settings;
+        // Single thread: migrations run one at a time to avoid thrashing the archive disks
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("RecordingMigrator");
+            return t;
+        });
+    }
+
+    /**
+     * Queue a completed recording for migration to the given archive location
+     */
+    public void submit(File source, File target) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> migrate(source, target, 1));
+    }
+
+    /**
+     * Queue recordings left on scratch by a previous session (failed or interrupted migrations).
+     * Files modified recently are skipped since a recorder may still be writing to them.
+     */
+    public void resumePending() {
+        if (!settings.isStorageTieringEnabled()) {
+            return;
+        }
+        File scratchDir = new File(settings.getScratchDirectory());
+        File[] channelDirs = scratchDir.listFiles(File::isDirectory);
+        if (channelDirs == null) {
+            return;
+        }
+
+        long cutoff = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(STALE_FILE_MINUTES);
+        for (File channelDir : channelDirs) {
+            File[] recordings = channelDir.listFiles((dir, name) -> name.endsWith(".ts"));
+            if (recordings == null) {
+                continue;
+            }
+            for (File recording : recordings) {
+                if (recording.lastModified() < cutoff) {
+                    File target = new File(new File(settings.getOutputDirectory(), channelDir.getName()), recording.getName());
+                    submit(recording, target);
+                }
+            }
+        }
+    }
+
+    private void migrate(File source, File target, int attempt) {
+        if (!source.exists()) {
+            return;
+        }
+
+        try {
+            Path sourcePath = source.toPath();
+            Path targetPath = target.toPath();
+            Files.createDirectories(targetPath.getParent());
+
+            FileStore sourceStore = Files.getFileStore(sourcePath);
+            FileStore targetStore = Files.getFileStore(targetPath.getParent());
+
+            if (sourceStore.equals(targetStore)) {
+                long size = Files.size(sourcePath);
+                long start = System.nanoTime();
+                moveAtomically(sourcePath, targetPath);
+                MonitorMetrics.migrationCompleted(size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                logMessage(String.format("Moved recording to archive: %s", target.getAbsolutePath()));
+                return;
+            }
+
+            long size = Files.size(sourcePath);
+            if (targetStore.getUsableSpace() < size + SPACE_MARGIN_BYTES) {
+                // Keep the file on scratch and check again later, this is not counted as a failed attempt
+                logMessage(LogEntry.Level.WARN, String.format("Archive is full, keeping %s on scratch (retry in %d min)",
+                    source.getName(), ARCHIVE_FULL_RETRY_MINUTES), LogEntry.NO_DURATION);
+                schedule(source, target, attempt, ARCHIVE_FULL_RETRY_MINUTES, TimeUnit.MINUTES);
+                return;
+            }
+
+            long start = System.nanoTime();
+            copyThrottled(sourcePath, targetPath);
+            Files.delete(sourcePath);
+
+            long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            MonitorMetrics.migrationCompleted(size, elapsedMs);
+            logMessage(LogEntry.Level.INFO, String.format("Migrated recording to archive: %s (%.1f MB/s)",
+                target.getAbsolutePath(), (size / 1048576.0) / (elapsedMs / 1000.0)), elapsedMs);
+
+        } catch (IOException e) {
+            MonitorMetrics.error(MonitorMetrics.COMPONENT_MIGRATION);
+            if (attempt >= MAX_ATTEMPTS) {
+                logMessage(LogEntry.Level.ERROR, String.format("Giving up migrating %s after %d attempts, file kept on scratch: %s",
+                    source.getName(), attempt, e.getMessage()), LogEntry.NO_DURATION);
+                return;
+            }
+            long delay = RETRY_BASE_DELAY_SECONDS << (attempt - 1);
+            MonitorMetrics.retry(MonitorMetrics.COMPONENT_MIGRATION);
+            logMessage(LogEntry.Level.WARN, String.format("Migration of %s failed (attempt %d/%d), retrying in %ds: %s",
+                source.getName(), attempt, MAX_ATTEMPTS, delay, e.getMessage()), LogEntry.NO_DURATION);
+            schedule(source, target, attempt + 1, delay, TimeUnit.SECONDS);
+        }
+    }
+
+    private void schedule(File source, File target, int attempt, long delay, TimeUnit unit) {
+        if (!executor.isShutdown()) {
+            executor.schedule(() -> migrate(source, target, attempt), delay, unit);
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Copy across file systems with FileChannel.transferTo, limited to the configured rate.
+     * Data is written to a temporary file that is only renamed once fully synced.
+     */
+    private void copyThrottled(Path source, Path target) throws IOException {
+        Path partPath = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+        long bytesPerSecond = settings.getMigrationRateLimitMBps() * 1024L * 1024L;
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(partPath, StandardOpenOption.CREATE,
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            long size = in.size();
+            long position = 0;
+            long start = System.nanoTime();
+
+            while (position < size) {
+                long transferred = in.transferTo(position, Math.min(TRANSFER_CHUNK_SIZE, size - position), out);
+                if (transferred <= 0) {
+                    throw new IOException("Transfer stalled at " + position + "/" + size + " bytes");
+                }
+                position += transferred;
+
+                if (bytesPerSecond > 0) {
+                    long expectedNanos = (long) (position * 1e9 / bytesPerSecond);
+                    long aheadNanos = expectedNanos - (System.nanoTime() - start);
+                    if (aheadNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(aheadNanos);
+                    }
+                }
+            }
+            out.force(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Files.deleteIfExists(partPath);
+            throw new IOException("Migration interrupted", e);
+        } catch (IOException e) {
+            Files.deleteIfExists(partPath);
+            throw e;
+        }
+
+        moveAtomically(partPath, target);
+    }
+
+    public void shutdown() {
+        // Pending migrations stay on scratch and can be resumed on next start
+        executor.shutdownNow();
+    }
+
+    private void logMessage(String message) {
+        logMessage(LogEntry.Level.INFO, message, LogEntry.NO_DURATION);
+    }
+    
+    private void logMessage(LogEntry.Level level, String message, long durationMs) {
+        LogService.get().log(LogEntry.system(level, LogEntry.EventType.MIGRATION, 
+            "[RecordingMigrator] " + message, durationMs));
+    }
+}
@@ -0,0 +1,176 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Streamlink download tuning for recordings: segment threads, ring buffer, HLS live edge, retries and timeouts.
+ * Unset (null) fields inherit from the next layer: channel profile, then platform profile, then DEFAULTS.
+ * Immutable, shared by the channel and monitor threads.
+ */
+public final class RecordingProfile {
+
+    private static final Pattern SIZE = Pattern.compile("\\d+[KMG]?");
+
+    /** Range streamlink accepts for --stream-segment-threads, the other counts and timeouts only need to be positive */
+    public static final int MIN_SEGMENT_THREADS = 1;
+    public static final int MAX_SEGMENT_THREADS = 10;
+
+    /** Nothing set, everything inherited */
+    public static final RecordingProfile EMPTY = new RecordingProfile(null, null, null, null, null, null, null);
+
+    /** Built-in values, a little more generous than streamlink's own (1 thread, 16M buffer, 10 s segment timeout) */
+    public static final RecordingProfile DEFAULTS = new RecordingProfile(2, "32M", 3, 5, 20, 120, 3);
+
+    private final Integer segmentThreads;
+    private final String ringBufferSize;
+    private final Integer liveEdge;
+    private final Integer segmentAttempts;
+    private final Integer segmentTimeoutSeconds;
+    private final Integer streamTimeoutSeconds;
+    private final Integer openRetries;
+
+    public RecordingProfile(Integer segmentThreads, String ringBufferSize, Integer liveEdge, Integer segmentAttempts,
+                            Integer segmentTimeoutSeconds, Integer streamTimeoutSeconds, Integer openRetries) {
+        this.segmentThreads = segmentThreads;
+        this.ringBufferSize = ringBufferSize;
+        this.liveEdge = liveEdge;
+        this.segmentAttempts = segmentAttempts;
+        this.segmentTimeoutSeconds = segmentTimeoutSeconds;
+        this.streamTimeoutSeconds = streamTimeoutSeconds;
+        this.openRetries = openRetries;
+    }
+
+    /**
+     * This profile with its unset fields taken from the given fallback
+     */
+    public RecordingProfile withDefaults(RecordingProfile fallback) {
+        if (fallback == null) {
+            return this;
+        }
+        return new RecordingProfile(
+            segmentThreads != null ? segmentThreads : fallback.segmentThreads,
+            ringBufferSize != null ? ringBufferSize : fallback.ringBufferSize,
+            liveEdge != null ? liveEdge : fallback.liveEdge,
+            segmentAttempts != null ? segmentAttempts : fallback.segmentAttempts,
+            segmentTimeoutSeconds != null ? segmentTimeoutSeconds : fallback.segmentTimeoutSeconds,
+            streamTimeoutSeconds != null ? streamTimeoutSeconds : fallback.streamTimeoutSeconds,
+            openRetries != null ? openRetries : fallback.openRetries);
+    }
+
+    /**
+     * Streamlink options for the set fields, values out of streamlink's accepted range are left out
+     */
+    public List<String> toStreamlinkArgs() {
+        List<String> args = new ArrayList<>(14);
+        if (segmentThreads != null && segmentThreads >= MIN_SEGMENT_THREADS && segmentThreads <= MAX_SEGMENT_THREADS) {
+            args.add("--stream-segment-threads");
+            args.add(segmentThreads.toString());
+        }
+        if (isValidSize(ringBufferSize)) {
+            args.add("--ringbuffer-size");
+            args.add(ringBufferSize);
+        }
+        if (liveEdge != null && liveEdge >= 1) {
+            args.add("--hls-live-edge");
+            args.add(liveEdge.toString());
+        }
+        if (segmentAttempts != null && segmentAttempts >= 1) {
+            args.add("--stream-segment-attempts");
+            args.add(segmentAttempts.toString());
+        }
+        if (segmentTimeoutSeconds != null && segmentTimeoutSeconds >= 1) {
+            args.add("--stream-segment-timeout");
+            args.add(segmentTimeoutSeconds.toString());
+        }
+        if (streamTimeoutSeconds != null && streamTimeoutSeconds >= 1) {
+            args.add("--stream-timeout");
+            args.add(streamTimeoutSeconds.toString());
+        }
+        if (openRetries != null && openRetries >= 1) {
+            args.add("--retry-open");
+            args.add(openRetries.toString());
+        }
+        return args;
+    }
+
+    /**
+     * Whether a ring buffer size is in streamlink's format: bytes, optionally with a K, M or G suffix
+     */
+    public static boolean isValidSize(String size) {
+        return size != null && SIZE.matcher(size).matches();
+    }
+
+    public boolean isEmpty() {
+        return equals(EMPTY);
+    }
+
+    public Integer getSegmentThreads() {
+        return segmentThreads;
+    }
+
+    public String getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    public Integer getLiveEdge() {
+        return liveEdge;
+    }
+
+    public Integer getSegmentAttempts() {
+        return segmentAttempts;
+    }
+
+    public Integer getSegmentTimeoutSeconds() {
+        return segmentTimeoutSeconds;
+    }
+
+    public Integer getStreamTimeoutSeconds() {
+        return streamTimeoutSeconds;
+    }
+
+    public Integer getOpenRetries() {
+        return openRetries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RecordingProfile)) {
+            return false;
+        }
+        RecordingProfile other = (RecordingProfile) o;
+        return Objects.equals(segmentThreads, other.segmentThreads)
+            && Objects.equals(ringBufferSize, other.ringBufferSize)
+            && Objects.equals(liveEdge, other.liveEdge)
+            && Objects.equals(segmentAttempts, other.segmentAttempts)
+            && Objects.equals(segmentTimeoutSeconds, other.segmentTimeoutSeconds)
+            && Objects.equals(streamTimeoutSeconds, other.streamTimeoutSeconds)
+            && Objects.equals(openRetries, other.openRetries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(segmentThreads, ringBufferSize, liveEdge, segmentAttempts,
+            segmentTimeoutSeconds, streamTimeoutSeconds, openRetries);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", toStreamlinkArgs());
+    }
+}
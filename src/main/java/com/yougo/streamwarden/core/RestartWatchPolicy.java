@@ -0,0 +1,47 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+/**
+ * Probes faster for a while after a stream ended, when streams that dropped tend to come back,
+ * and at the regular check interval otherwise.
+ */
+public class RestartWatchPolicy implements PollingPolicy {
+
+    private final long watchWindowMs;
+    private final long watchIntervalMs;
+
+    public RestartWatchPolicy(long watchWindowMs, long watchIntervalMs) {
+        this.watchWindowMs = watchWindowMs;
+        this.watchIntervalMs = watchIntervalMs;
+    }
+
+    @Override
+    public long nextCheckDelayMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs) {
+        if (live) {
+            return FixedIntervalPolicy.RECORDING_CHECK_MS;
+        }
+        return sinceChangeMs < watchWindowMs ? Math.min(watchIntervalMs, baseIntervalMs) : baseIntervalMs;
+    }
+
+    @Override
+    public long stableForMs(boolean live, boolean recording, long baseIntervalMs, long sinceChangeMs) {
+        if (live || sinceChangeMs >= watchWindowMs) {
+            return Long.MAX_VALUE;
+        }
+        return watchWindowMs - sinceChangeMs;
+    }
+
+    @Override
+    public String toString() {
+        return "restart-watch";
+    }
+}
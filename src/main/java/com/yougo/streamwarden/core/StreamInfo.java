@@ -0,0 +1,120 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Metadata and available quality names from `streamlink --json`.
+ * The document is read token by token straight from the process output: only the metadata fields
+ * and the keys of the stream map are kept, stream URLs and headers are skipped without being decoded.
+ */
+final class StreamInfo {
+
+    // Shared reader configuration, Gson instances are thread-safe
+    private static final Gson gson = new Gson();
+
+    final String id;
+    final String author;
+    final String category;
+    final String title;
+    final List<String> qualities;
+    final String error;
+
+    private StreamInfo(String id, String author, String category, String title, List<String> qualities, String error) {
+        this.id = id;
+        this.author = author;
+        this.category = category;
+        this.title = title;
+        this.qualities = qualities;
+        this.error = error;
+    }
+
+    /**
+     * Parse one JSON document, the reader is not closed
+     */
+    static StreamInfo parse(Reader reader) throws IOException {
+        JsonReader in = gson.newJsonReader(reader);
+        String id = null;
+        String author = null;
+        String category = null;
+        String title = null;
+        String error = null;
+        List<String> qualities = Collections.emptyList();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "metadata":
+                    if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                        in.skipValue();
+                        break;
+                    }
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "id": id = nextString(in); break;
+                            case "author": author = nextString(in); break;
+                            case "category": category = nextString(in); break;
+                            case "title": title = nextString(in); break;
+                            default: in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    break;
+                case "streams":
+                    if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                        in.skipValue();
+                        break;
+                    }
+                    qualities = new ArrayList<>();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        qualities.add(in.nextName());
+                        in.skipValue();
+                    }
+                    in.endObject();
+                    break;
+                case "error":
+                    error = nextString(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return new StreamInfo(id, author, category, title, Collections.unmodifiableList(qualities), error);
+    }
+
+    /**
+     * String value, or null for null, numbers are returned as text (ids are sometimes numeric)
+     */
+    private static String nextString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return in.nextString();
+        }
+        in.skipValue();
+        return null;
+    }
+
+    boolean hasTitle() {
+        return title != null && !title.trim().isEmpty();
+    }
+}
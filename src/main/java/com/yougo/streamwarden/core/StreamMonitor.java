@@ -10,41 +10,119 @@
 
 package com.yougo.streamwarden.core;
 
-import com.google.gson.Gson;
-import com.yougo.streamwarden.ChannelEntry;
 import com.yougo.streamwarden.config.AppSettings;
-import javafx.application.Platform;
+import com.yougo.streamwarden.hls.HlsRecorder;
+import com.yougo.streamwarden.jfr.ChannelEvent;
+import com.yougo.streamwarden.jfr.ProbeEvent;
+import com.yougo.streamwarden.jfr.ProcessEvent;
+import com.yougo.streamwarden.jfr.RecordingEvent;
+import com.yougo.streamwarden.jfr.RecordingStartedEvent;
+import com.yougo.streamwarden.jfr.StreamTitleEvent;
+import com.yougo.streamwarden.logging.LogEntry;
+import com.yougo.streamwarden.logging.LogService;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 
 public class StreamMonitor implements Runnable {
     
-    private final ChannelEntry channelEntry;
+    private volatile Channel channel;
     private final AppSettings settings;
+    private final RecordingMigrator migrator;
+    private final RecordingJournal journal;
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private final AtomicBoolean recording = new AtomicBoolean(false);
-    private final int checkInterval;
+    private final Object wakeLock = new Object();
+    private final StreamProbe probe;
+    private final TimeSource timeSource;
+    private final PollingPolicy pollingPolicy;
+    private final PremiereSchedule premiereSchedule;
 
-    public StreamMonitor(ChannelEntry channelEntry, AppSettings settings) {
-        this.channelEntry = channelEntry;
+    public StreamMonitor(Channel channel, AppSettings settings, 
+                         RecordingMigrator migrator, RecordingJournal journal) {
+        this(channel, settings, migrator, journal, null, TimeSource.SYSTEM, new FixedIntervalPolicy());
+    }
+
+    /**
+     * @param probe liveness probe, null to run streamlink
+     */
+    public StreamMonitor(Channel channel, AppSettings settings, RecordingMigrator migrator, RecordingJournal journal,
+                         StreamProbe probe, TimeSource timeSource, PollingPolicy pollingPolicy) {
+        this.channel = channel;
         this.settings = settings;
-        this.checkInterval = settings.getDefaultCheckInterval();
+        this.migrator = migrator;
+        this.journal = journal;
+        this.probe = probe != null ? probe : current -> isStreamLive();
+        this.timeSource = timeSource;
+        this.pollingPolicy = pollingPolicy;
+        this.premiereSchedule = new PremiereSchedule(timeSource);
+    }
+    
+    /**
+     * One recorder of this channel with its own quality, file and lifecycle: the main output,
+     * which follows the channel quality and drives the channel status, or an extra quality
+     */
+    private final class Output {
+        final String extraQuality; // null for the main output
+        final AtomicBoolean recording = new AtomicBoolean(false);
+        final QualitySelector qualitySelector = new QualitySelector();
+        // Current recording process (own or adopted from a previous session)
+        volatile ProcessHandle process = null;
+        volatile File file = null;
+        volatile HlsRecorder hlsRecorder = null;
+        // Completes with the file once the last built-in HLS recording closed it
+        volatile CompletableFuture<File> hlsFinished = null;
+        volatile RecordingChapters chapters = null;
+        
+        Output(String extraQuality) {
+            this.extraQuality = extraQuality;
+        }
+        
+        boolean isExtra() {
+            return extraQuality != null;
+        }
+        
+        String requestedQuality() {
+            return extraQuality != null ? extraQuality : channel.getQuality();
+        }
+        
+        /**
+         * Suffix for log messages, empty for the main output
+         */
+        String label() {
+            return extraQuality != null ? " [" + extraQuality + "]" : "";
+        }
     }
     
-    // Add reference to the current recording process
-    private volatile Process currentRecordingProcess = null;
+    private final Output mainOutput = new Output(null);
+    private final Map<String, Output> extraOutputs = new ConcurrentHashMap<>();
+    private volatile OutputThrottle outputThrottle = null;
     
-    // Callback interfaces for UI updates
+    private volatile ChannelStatus lastStatus = null;
+    
+    // Metadata from the last probe that found the stream live, null while offline or when it could not be parsed
+    private volatile StreamInfo latestStreamInfo = null;
+    
+    // Callback interface for UI updates (called from monitor threads, logs go through LogService)
     public interface StatusCallback {
-        void onStatusChanged(ChannelEntry channel, String status);
-        void onLogMessage(String message);
+        void onStatusChanged(Channel channel, ChannelStatus status);
     }
     
     private StatusCallback statusCallback;
@@ -53,55 +131,90 @@ public class StreamMonitor implements Runnable {
         this.statusCallback = callback;
     }
     
+    /**
+     * Limit shared by all monitors on the extra outputs recording at once, null for no limit
+     */
+    void setOutputThrottle(OutputThrottle throttle) {
+        this.outputThrottle = throttle;
+    }
+    
     @Override
     public void run() {
         running.set(true);
         boolean lastOnlineStatus = false; // Track previous online status
-        updateStatus("Offline"); // Start with Offline status when monitoring begins
-        logMessage(String.format("[%s] Started monitoring channel: %s", 
-            channelEntry.getPlatform(), channelEntry.getChannelName()));
+        long stateChangedNanos = timeSource.nanoTime();
+        // Start with Offline status when monitoring begins, unless a recording was adopted
+        updateStatus(mainOutput.recording.get() ? ChannelStatus.RECORDING : ChannelStatus.OFFLINE);
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.MONITOR, String.format("[%s] Started monitoring channel: %s", 
+            channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
 
-        while (running.get() && channelEntry.getIsActive()) {
+        while (running.get() && channel.isActive()) {
             try {
-                boolean isOnline = isStreamLive();
+                // A YouTube live is announced for later: skip probes until shortly before it, only keep the schedule fresh
+                if (!lastOnlineStatus && usesPremiereSchedule() && premiereSchedule.isBeforeWindow()) {
+                    refreshPremiereSchedule();
+                    waitForNextCheck(false, stateChangedNanos);
+                    continue;
+                }
+                
+                boolean isOnline = probe.isLive(channel);
+                long detectedNanos = timeSource.nanoTime();
+                if (isOnline != lastOnlineStatus) {
+                    stateChangedNanos = detectedNanos;
+                }
                 if (isOnline) {
+                    boolean wasOnline = lastOnlineStatus;
                     if (!lastOnlineStatus) {
-                        logMessage(String.format("[%s] Channel %s is now online.", 
-                            channelEntry.getPlatform(), channelEntry.getChannelName()));
+                        logEvent(LogEntry.Level.INFO, LogEntry.EventType.STREAM_STATUS, String.format("[%s] Channel %s is now online.", 
+                            channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
                     }
                     lastOnlineStatus = true;
-                    if (!recording.get()) {
-                        startRecording();
+                    premiereSchedule.clear();
+                    updateChapters();
+                    if (!mainOutput.recording.get()) {
+                        if (wasOnline) {
+                            // The recorder exited while the stream is still live, this start is a retry
+                            MonitorMetrics.retry(MonitorMetrics.COMPONENT_RECORDING);
+                        }
+                        startRecording(mainOutput, detectedNanos);
                     }
-                    Thread.sleep(30 * 1000L); // 30 seconds when recording
+                    startExtraOutputs(detectedNanos);
+                    waitForNextCheck(true, stateChangedNanos);
                 } else {
                     if (lastOnlineStatus) {
-                        logMessage(String.format("[%s] Channel %s is now offline.", 
-                            channelEntry.getPlatform(), channelEntry.getChannelName()));
+                        logEvent(LogEntry.Level.INFO, LogEntry.EventType.STREAM_STATUS, String.format("[%s] Channel %s is now offline.", 
+                            channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
                     }
                     lastOnlineStatus = false;
-                    if (recording.get()) {
+                    for (Output output : extraOutputs.values()) {
+                        output.recording.set(false);
+                    }
+                    if (mainOutput.recording.get()) {
                         // Stream ended, recording will stop automatically
-                        recording.set(false);
-                        updateStatus("Offline");
-                        logMessage(String.format("[%s] Stream ended for: %s", 
-                            channelEntry.getPlatform(), channelEntry.getChannelName()));
-                    } else {
-                        updateStatus("Offline");
+                        mainOutput.recording.set(false);
+                        updateStatus(ChannelStatus.OFFLINE);
+                        logEvent(LogEntry.Level.INFO, LogEntry.EventType.STREAM_STATUS, String.format("[%s] Stream ended for: %s", 
+                            channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
+                    } else if (!usesPremiereSchedule()) {
+                        updateStatus(ChannelStatus.OFFLINE);
                         // No log here to avoid spam
                     }
-                    Thread.sleep(checkInterval * 1000L);
+                    if (usesPremiereSchedule()) {
+                        refreshPremiereSchedule();
+                    }
+                    waitForNextCheck(false, stateChangedNanos);
                 }
 
             } catch (InterruptedException e) {
-                logMessage(String.format("[%s] Monitor interrupted for: %s", 
-                    channelEntry.getPlatform(), channelEntry.getChannelName()));
+                logEvent(LogEntry.Level.INFO, LogEntry.EventType.MONITOR, String.format("[%s] Monitor interrupted for: %s", 
+                    channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
                 break;
             } catch (Exception e) {
-                logMessage(String.format("[%s] Error monitoring %s: %s", 
-                    channelEntry.getPlatform(), channelEntry.getChannelName(), e.getMessage()));
+                MonitorMetrics.error(MonitorMetrics.COMPONENT_MONITOR);
+                logEvent(LogEntry.Level.ERROR, LogEntry.EventType.MONITOR, String.format("[%s] Error monitoring %s: %s", 
+                    channel.getPlatform(), channel.getChannelName(), e.getMessage()), LogEntry.NO_DURATION);
                 try {
-                    Thread.sleep(checkInterval * 1000L);
+                    waitForNextCheck(false, stateChangedNanos);
                 } catch (InterruptedException ie) {
                     break;
                 }
@@ -109,31 +222,25 @@ public class StreamMonitor implements Runnable {
         }
 
         running.set(false);
-        updateStatus(""); // Clear status when not monitoring
-        logMessage(String.format("[%s] Stopped monitoring: %s", 
-            channelEntry.getPlatform(), channelEntry.getChannelName()));
+        updateStatus(ChannelStatus.IDLE); // Clear status when not monitoring
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.MONITOR, String.format("[%s] Stopped monitoring: %s", 
+            channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
     }
     
     private boolean isStreamLive() {
+        long probeStartNanos = timeSource.nanoTime();
+        ProbeEvent probeEvent = new ProbeEvent();
+        probeEvent.begin();
         try {
             ProcessBuilder pb = new ProcessBuilder();
-            pb.command(settings.getStreamlinkPath(), channelEntry.getChannelUrl(), "--json");
+            pb.command(settings.getStreamlinkPath(), channel.getChannelUrl(), "--json");
             
+            ProcessEvent processEvent = new ProcessEvent();
+            processEvent.begin();
             Process process = pb.start();
+            MonitorMetrics.processSpawned(MonitorMetrics.PURPOSE_PROBE);
             
-            // Consume output streams to prevent deadlock on Windows
-            Thread outputConsumer = new Thread(() -> {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                    while (reader.readLine() != null) {
-                        // Consume stdout to prevent buffer overflow
-                    }
-                } catch (IOException e) {
-                    // Ignore IOException during stream consumption
-                }
-            });
-            outputConsumer.setDaemon(true);
-            outputConsumer.start();
-            
+            // Consume stderr on a helper thread to prevent deadlock on Windows, stdout is parsed here
             Thread errorConsumer = new Thread(() -> {
                 try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
                     while (reader.readLine() != null) {
@@ -146,18 +253,50 @@ public class StreamMonitor implements Runnable {
             errorConsumer.setDaemon(true);
             errorConsumer.start();
             
+            StreamInfo info = readStreamInfo(process.getInputStream());
             int exitCode = process.waitFor();
+            commitProcessEvent(processEvent, MonitorMetrics.PURPOSE_PROBE, process, exitCode);
             
             // Streamlink returns 0 if stream is available, non-zero if not
-            return exitCode == 0;
+            boolean live = exitCode == 0;
+            latestStreamInfo = live ? info : null;
+            probeEvent.result = live ? "live" : "offline";
+            commitEvent(probeEvent);
+            MonitorMetrics.probeCompleted(channel.getPlatform(), probeEvent.result, 
+                TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - probeStartNanos));
+            return live;
             
         } catch (Exception e) {
-            logMessage(String.format("[%s] Error checking stream status for %s: %s", 
-                channelEntry.getPlatform(), channelEntry.getChannelName(), e.getMessage()));
+            latestStreamInfo = null;
+            probeEvent.result = "error";
+            commitEvent(probeEvent);
+            MonitorMetrics.probeCompleted(channel.getPlatform(), "error", 
+                TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - probeStartNanos));
+            MonitorMetrics.error(MonitorMetrics.COMPONENT_PROBE);
+            logEvent(LogEntry.Level.ERROR, LogEntry.EventType.PROBE, String.format("[%s] Error checking stream status for %s: %s", 
+                channel.getPlatform(), channel.getChannelName(), e.getMessage()), LogEntry.NO_DURATION);
             return false;
         }
     }
     
+    /**
+     * Stream to record: the best match among the variants listed by the probe, or the generic
+     * fallback chain when the probe gave no list (injected probe, unreadable output)
+     */
+    private String resolveQuality(Output output) {
+        String requested = output.requestedQuality();
+        StreamInfo info = latestStreamInfo;
+        if (info != null) {
+            String selected = output.qualitySelector.select(requested, settings.isRecordHighFps(), info.qualities);
+            if (selected != null) {
+                logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.RECORDING, String.format("[%s] Selected %s for %s from: %s", 
+                    channel.getPlatform(), selected, channel.getChannelName(), String.join(", ", info.qualities)), LogEntry.NO_DURATION);
+                return selected;
+            }
+        }
+        return buildQualityWithFallback(requested);
+    }
+    
     private static final String[] BASE_QUALITY_ORDER = {
         "4k", "1080p", "720p", "480p", "360p", "240p", "144p"
     };
@@ -166,7 +305,7 @@ public class StreamMonitor implements Runnable {
      * Build quality parameter with automatic fallback based on quality hierarchy
      * This ensures recording starts even if the exact quality isn't available
      */
-    private String buildQualityWithFallback(String requestedQuality) {
+    String buildQualityWithFallback(String requestedQuality) {
         
         StringBuilder qualityChain = new StringBuilder();
         
@@ -212,7 +351,7 @@ public class StreamMonitor implements Runnable {
      * Generate quality variants for a base quality (e.g., "1080p" -> ["1080p60", "1080p50", "1080p30", "1080p"])
      * Order depends on user's high FPS preference
      */
-    private String[] generateQualityVariants(String baseQuality) {
+    String[] generateQualityVariants(String baseQuality) {
         boolean recordHighFps = settings.isRecordHighFps();
         
         if (recordHighFps) {
@@ -236,41 +375,166 @@ public class StreamMonitor implements Runnable {
         }
     }
     
-    private void startRecording() {
-        if (recording.get()) {
+    /**
+     * Wait until the polling policy says the next check is due. The check interval is read from the
+     * settings on every wake-up, so a changed interval applies to the current wait as well.
+     */
+    private void waitForNextCheck(boolean live, long stateChangedNanos) throws InterruptedException {
+        long startNanos = timeSource.nanoTime();
+        long sinceChangeMs = TimeUnit.NANOSECONDS.toMillis(startNanos - stateChangedNanos);
+        synchronized (wakeLock) {
+            while (running.get()) {
+                long intervalMs = pollingPolicy.nextCheckDelayMs(live, isRecording(),
+                    settings.getDefaultCheckInterval() * 1000L, sinceChangeMs);
+                if (!live && usesPremiereSchedule()) {
+                    intervalMs = premiereSchedule.nextCheckDelayMs(intervalMs, startNanos);
+                }
+                long remainingMs = intervalMs - TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - startNanos);
+                if (remainingMs <= 0) {
+                    return;
+                }
+                wakeLock.wait(remainingMs);
+            }
+        }
+    }
+    
+    private boolean usesPremiereSchedule() {
+        return settings.isYouTubeSchedules() && "YouTube".equals(channel.getPlatform());
+    }
+    
+    /**
+     * Look up the announced start of an upcoming live when due (at most every 15 minutes) and show it in the status.
+     * One HTTP request to the channel page, no streamlink process.
+     */
+    private void refreshPremiereSchedule() throws InterruptedException {
+        boolean wasKnown = premiereSchedule.isKnown();
+        try {
+            if (premiereSchedule.refresh(channel.getChannelUrl())) {
+                boolean known = premiereSchedule.isKnown();
+                MonitorMetrics.scheduleLookup(known ? "scheduled" : "none");
+                if (known) {
+                    long minutes = TimeUnit.MILLISECONDS.toMinutes(premiereSchedule.millisUntilStart());
+                    logEvent(wasKnown ? LogEntry.Level.DEBUG : LogEntry.Level.INFO, LogEntry.EventType.STREAM_STATUS, 
+                        String.format("[%s] %s is scheduled to go live in %d min, probing from %d min before", channel.getPlatform(), 
+                            channel.getChannelName(), minutes, TimeUnit.MILLISECONDS.toMinutes(PremiereSchedule.LEAD_MS)), 
+                        LogEntry.NO_DURATION);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            MonitorMetrics.scheduleLookup("error");
+            logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.PROBE, String.format("[%s] Could not read the schedule of %s: %s", 
+                channel.getPlatform(), channel.getChannelName(), e.getMessage()), LogEntry.NO_DURATION);
+        }
+        updateStatus(premiereSchedule.isKnown() ? ChannelStatus.SCHEDULED : ChannelStatus.OFFLINE);
+    }
+    
+    /**
+     * Re-evaluate the current wait after a settings change
+     */
+    public void onSettingsChanged() {
+        wakeUp();
+    }
+    
+    private void wakeUp() {
+        synchronized (wakeLock) {
+            wakeLock.notifyAll();
+        }
+    }
+    
+    /**
+     * Start the extra outputs that are not recording yet. Those the throttle turns down are retried on the next check.
+     */
+    private void startExtraOutputs(long detectedNanos) {
+        for (String quality : channel.getExtraQualities()) {
+            Output output = extraOutputs.computeIfAbsent(quality, Output::new);
+            if (output.recording.get()) {
+                continue;
+            }
+            OutputThrottle throttle = outputThrottle;
+            if (throttle != null && !throttle.tryAcquire()) {
+                MonitorMetrics.extraOutputDeferred();
+                logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.RECORDING, String.format("[%s] Extra output %s deferred for %s, %d already recording", 
+                    channel.getPlatform(), quality, channel.getChannelName(), throttle.getActive()), LogEntry.NO_DURATION);
+                continue;
+            }
+            startRecording(output, detectedNanos);
+        }
+    }
+    
+    private void startRecording(Output output, long detectedNanos) {
+        if (output.recording.get()) {
             return; // Already recording
         }
         
-        recording.set(true);
-        updateStatus("Recording");
-        logMessage(String.format("[%s] Stream is live! Starting recording: %s", 
-            channelEntry.getPlatform(), channelEntry.getChannelName()));
+        output.recording.set(true);
+        if (output.isExtra()) {
+            logEvent(LogEntry.Level.INFO, LogEntry.EventType.RECORDING, String.format("[%s] Starting extra output %s: %s", 
+                channel.getPlatform(), output.extraQuality, channel.getChannelName()), LogEntry.NO_DURATION);
+        } else {
+            updateStatus(ChannelStatus.RECORDING);
+            logEvent(LogEntry.Level.INFO, LogEntry.EventType.RECORDING, String.format("[%s] Stream is live! Starting recording: %s", 
+                channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
+        }
         
         // Start recording in a separate thread
         Thread recordingThread = new Thread(() -> {
+            // Decide the storage tier once, so a settings change mid-recording doesn't lose the file
+            boolean tiered = settings.isStorageTieringEnabled();
+            File recordedFile = null;
             try {
-                String outputFile = generateOutputFilename();
+                String outputFile = generateOutputFilename(output);
                 
                 // Create channel-specific directory structure
-                File outputDir = createChannelDirectory();
+                File outputDir = createChannelDirectory(
+                    tiered ? settings.getScratchDirectory() : settings.getOutputDirectory());
+                recordedFile = new File(outputDir, outputFile);
                 
-                // Build quality parameter with fallback
-                String qualityParam = buildQualityWithFallback(channelEntry.getQuality());
+                String qualityParam = resolveQuality(output);
+                Channel current = channel;
+                RecordingProfile profile = current.getRecordingProfile()
+                    .withDefaults(settings.getRecordingProfile(current.getPlatform()))
+                    .withDefaults(RecordingProfile.DEFAULTS);
                 
-                ProcessBuilder pb = new ProcessBuilder();
-                pb.command(
-                    settings.getStreamlinkPath(),
-                    channelEntry.getChannelUrl(),
-                    qualityParam,
-                    "-o", outputFile
-                );
+                List<String> command = new ArrayList<>();
+                command.add(settings.getStreamlinkPath());
+                command.add(current.getChannelUrl());
+                command.add(qualityParam);
+                command.addAll(profile.toStreamlinkArgs());
+                command.add("-o");
+                command.add(outputFile);
+                ProcessBuilder pb = new ProcessBuilder(command);
                 pb.directory(outputDir);
                 
+                logMessage(String.format("[%s] Recording options for %s%s: %s", 
+                    current.getPlatform(), current.getChannelName(), output.label(), profile));
+                
+                if (settings.isBuiltInHlsRecorder()
+                        && recordWithBuiltInHls(output, current, qualityParam, profile, recordedFile, tiered, detectedNanos)) {
+                    return;
+                }
+                
                 logMessage(String.format("[%s] Starting recording to: %s%s%s", 
-                    channelEntry.getPlatform(), outputDir.getAbsolutePath(), File.separator, outputFile));
+                    channel.getPlatform(), outputDir.getAbsolutePath(), File.separator, outputFile));
                 
+                RecordingEvent recordingEvent = new RecordingEvent();
+                ProcessEvent processEvent = new ProcessEvent();
+                recordingEvent.begin();
+                processEvent.begin();
                 Process process = pb.start();
-                currentRecordingProcess = process; // Store reference to current process
+                long recordingStartNanos = timeSource.nanoTime();
+                long detectToRecordMs = TimeUnit.NANOSECONDS.toMillis(recordingStartNanos - detectedNanos);
+                MonitorMetrics.processSpawned(MonitorMetrics.PURPOSE_RECORD);
+                MonitorMetrics.detectedToRecording(detectToRecordMs);
+                
+                RecordingStartedEvent startedEvent = new RecordingStartedEvent();
+                startedEvent.file = recordedFile.getAbsolutePath();
+                startedEvent.detectToRecord = detectToRecordMs;
+                commitEvent(startedEvent);
+                output.process = process.toHandle(); // Store reference to current process
+                output.file = recordedFile;
+                startChapters(output, recordedFile, recordingStartNanos);
+                journal.recordStart(channel.getKey(), output.extraQuality, process.pid(), 
+                    recordedFile, tiered ? getArchiveFile(recordedFile) : null);
                 
                 // Variables to track the actual quality used
                 String actualQuality = "unknown";
@@ -285,7 +549,7 @@ public class StreamMonitor implements Runnable {
                     String line;
                     
                     // Read stdout
-                    while ((line = reader.readLine()) != null && recording.get()) {
+                    while ((line = reader.readLine()) != null && output.recording.get()) {
                         // Look for quality information in streamlink output
                         if (!qualityFound) {
                             String extractedQuality = extractQualityFromOutput(line);
@@ -293,43 +557,79 @@ public class StreamMonitor implements Runnable {
                                 actualQuality = extractedQuality;
                                 qualityFound = true;
                                 logMessage(String.format("[%s] Recording quality: %s", 
-                                    channelEntry.getPlatform(), actualQuality));
+                                    channel.getPlatform(), actualQuality));
                             }
                         }
                     }
                     
                     // Also check stderr for quality information
                     String errorLine;
-                    while ((errorLine = errorReader.readLine()) != null && recording.get()) {
+                    while ((errorLine = errorReader.readLine()) != null && output.recording.get()) {
                         if (!qualityFound) {
                             String extractedQuality = extractQualityFromOutput(errorLine);
                             if (extractedQuality != null) {
                                 actualQuality = extractedQuality;
                                 qualityFound = true;
                                 logMessage(String.format("[%s] Recording quality: %s", 
-                                    channelEntry.getPlatform(), actualQuality));
+                                    channel.getPlatform(), actualQuality));
                             }
                         }
                     }
                 }
                 
                 int exitCode = process.waitFor();
+                long bytesWritten = recordedFile.length();
+                commitProcessEvent(processEvent, MonitorMetrics.PURPOSE_RECORD, process, exitCode);
+                recordingEvent.file = recordedFile.getAbsolutePath();
+                recordingEvent.bytes = bytesWritten;
+                recordingEvent.exitCode = exitCode;
+                commitEvent(recordingEvent);
+                MonitorMetrics.recordingCompleted(channel.getPlatform(), bytesWritten, 
+                    TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - recordingStartNanos));
                 
                 if (exitCode == 0) {
-                    logMessage(String.format("[%s] Recording completed successfully: %s (Quality: %s)", 
-                        channelEntry.getPlatform(), outputFile, actualQuality));
+                    logEvent(LogEntry.Level.INFO, LogEntry.EventType.RECORDING, 
+                        String.format("[%s] Recording completed successfully: %s (Quality: %s)", 
+                            channel.getPlatform(), outputFile, actualQuality), 
+                        TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - recordingStartNanos));
                 } else {
-                    logMessage(String.format("[%s] Recording ended with exit code %d: %s", 
-                        channelEntry.getPlatform(), exitCode, channelEntry.getChannelName()));
+                    MonitorMetrics.error(MonitorMetrics.COMPONENT_RECORDING);
+                    logEvent(LogEntry.Level.WARN, LogEntry.EventType.RECORDING, 
+                        String.format("[%s] Recording ended with exit code %d: %s%s", 
+                            channel.getPlatform(), exitCode, channel.getChannelName(), output.label()), 
+                        TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - recordingStartNanos));
                 }
                 
             } catch (Exception e) {
-                logMessage(String.format("[%s] Recording error for %s: %s", 
-                    channelEntry.getPlatform(), channelEntry.getChannelName(), e.getMessage()));
-                updateStatus("Error");
+                MonitorMetrics.error(MonitorMetrics.COMPONENT_RECORDING);
+                logEvent(LogEntry.Level.ERROR, LogEntry.EventType.RECORDING, String.format("[%s] Recording error for %s%s: %s", 
+                    channel.getPlatform(), channel.getChannelName(), output.label(), e.getMessage()), LogEntry.NO_DURATION);
+                if (!output.isExtra()) {
+                    updateStatus(ChannelStatus.ERROR);
+                }
             } finally {
-                recording.set(false);
-                currentRecordingProcess = null; // Clear process reference
+                ProcessHandle process = output.process;
+                output.recording.set(false);
+                output.process = null; // Clear process reference
+                output.file = null;
+                OutputThrottle throttle = outputThrottle;
+                if (output.isExtra() && throttle != null) {
+                    throttle.release();
+                }
+                
+                if (recordedFile != null) {
+                    if (process != null) {
+                        journal.recordEnd(channel.getKey(), process.pid(), recordedFile);
+                    }
+                    RecordingChapters chapters = output.chapters;
+                    output.chapters = null;
+                    if (chapters != null) {
+                        ChapterWriter.get().finish(chapters, tiered ? getArchiveFile(recordedFile) : recordedFile);
+                    }
+                    if (tiered) {
+                        queueMigration(recordedFile, getArchiveFile(recordedFile));
+                    }
+                }
             }
         });
         
@@ -337,11 +637,202 @@ public class StreamMonitor implements Runnable {
         recordingThread.start();
     }
     
+    /**
+     * Track title and category changes of a new recording, the first chapter comes from the probe that found it live
+     */
+    private void startChapters(Output output, File recordedFile, long recordingStartNanos) {
+        RecordingChapters chapters = new RecordingChapters(recordedFile, timeSource, recordingStartNanos);
+        StreamInfo info = latestStreamInfo;
+        if (info != null && chapters.update(info.title, info.category) != null) {
+            ChapterWriter.get().markDirty(chapters);
+        }
+        output.chapters = chapters;
+    }
+    
+    /**
+     * Add a chapter to the recordings in progress when the title or category changed. The metadata comes
+     * from the liveness probe that runs anyway while recording, so this costs no extra process.
+     */
+    private void updateChapters() {
+        StreamInfo info = latestStreamInfo;
+        if (info == null) {
+            return;
+        }
+        RecordingChapters.Chapter changed = null;
+        for (Output output : outputs()) {
+            RecordingChapters chapters = output.chapters;
+            RecordingChapters.Chapter chapter = chapters != null ? chapters.update(info.title, info.category) : null;
+            if (chapter != null) {
+                ChapterWriter.get().markDirty(chapters);
+                changed = chapter;
+            }
+        }
+        if (changed != null) {
+            logEvent(LogEntry.Level.INFO, LogEntry.EventType.STREAM_STATUS, String.format("[%s] %s changed to: %s", 
+                channel.getPlatform(), channel.getChannelName(), RecordingChapters.describe(changed)), LogEntry.NO_DURATION);
+        }
+    }
+    
+    /**
+     * Record with the in-process HLS recorder. Returns false, before anything is written, when the stream
+     * can't be recorded this way (no HLS playlist URL, encrypted, unreachable) so the caller runs streamlink.
+     */
+    private boolean recordWithBuiltInHls(Output output, Channel current, String qualityParam, RecordingProfile profile,
+                                         File recordedFile, boolean tiered, long detectedNanos) 
+            throws IOException, InterruptedException {
+        URI playlistUri = resolvePlaylistUri(current, qualityParam);
+        HlsRecorder recorder = null;
+        if (playlistUri != null) {
+            recorder = new HlsRecorder(playlistUri, recordedFile.toPath(), profile.getSegmentThreads(), 
+                profile.getLiveEdge(), profile.getSegmentAttempts(), profile.getSegmentTimeoutSeconds(), 
+                profile.getStreamTimeoutSeconds());
+            try {
+                recorder.open();
+            } catch (IOException e) {
+                logEvent(LogEntry.Level.WARN, LogEntry.EventType.RECORDING, String.format("[%s] Built-in HLS recorder cannot open %s: %s", 
+                    current.getPlatform(), current.getChannelName(), e.getMessage()), LogEntry.NO_DURATION);
+                recorder = null;
+            }
+        }
+        if (recorder == null) {
+            logMessage(String.format("[%s] Using Streamlink to record %s", current.getPlatform(), current.getChannelName()));
+            return false;
+        }
+        
+        logMessage(String.format("[%s] Starting built-in HLS recording to: %s", 
+            current.getPlatform(), recordedFile.getAbsolutePath()));
+        RecordingEvent recordingEvent = new RecordingEvent();
+        recordingEvent.begin();
+        long recordingStartNanos = timeSource.nanoTime();
+        long detectToRecordMs = TimeUnit.NANOSECONDS.toMillis(recordingStartNanos - detectedNanos);
+        MonitorMetrics.detectedToRecording(detectToRecordMs);
+        RecordingStartedEvent startedEvent = new RecordingStartedEvent();
+        startedEvent.file = recordedFile.getAbsolutePath();
+        startedEvent.detectToRecord = detectToRecordMs;
+        commitEvent(startedEvent);
+        
+        // The journal entry carries our own PID, a crash ends the recording with it
+        long ownPid = ProcessHandle.current().pid();
+        CompletableFuture<File> finished = new CompletableFuture<>();
+        output.hlsFinished = finished;
+        output.hlsRecorder = recorder;
+        output.file = recordedFile;
+        startChapters(output, recordedFile, recordingStartNanos);
+        journal.recordStart(current.getKey(), output.extraQuality, ownPid, recordedFile, 
+            tiered ? getArchiveFile(recordedFile) : null);
+        try {
+            recorder.record();
+        } finally {
+            output.hlsRecorder = null;
+            journal.recordEnd(current.getKey(), ownPid, recordedFile);
+            finished.complete(recordedFile);
+        }
+        
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(timeSource.nanoTime() - recordingStartNanos);
+        recordingEvent.file = recordedFile.getAbsolutePath();
+        recordingEvent.bytes = recorder.getBytesWritten();
+        recordingEvent.exitCode = 0;
+        commitEvent(recordingEvent);
+        MonitorMetrics.recordingCompleted(current.getPlatform(), recorder.getBytesWritten(), durationMs);
+        logEvent(recorder.getSegmentsSkipped() > 0 ? LogEntry.Level.WARN : LogEntry.Level.INFO, LogEntry.EventType.RECORDING, 
+            String.format("[%s] Recording completed: %s (built-in HLS, %d segments, %d skipped)", 
+                current.getPlatform(), recordedFile.getName(), recorder.getSegmentsWritten(), recorder.getSegmentsSkipped()), 
+            durationMs);
+        return true;
+    }
+    
+    /**
+     * Ask streamlink for the URL of the selected stream, null unless it is an HLS playlist
+     */
+    private URI resolvePlaylistUri(Channel current, String qualityParam) throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(settings.getStreamlinkPath(), current.getChannelUrl(), qualityParam, "--stream-url");
+        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+        
+        ProcessEvent processEvent = new ProcessEvent();
+        processEvent.begin();
+        Process process = pb.start();
+        MonitorMetrics.processSpawned(MonitorMetrics.PURPOSE_RESOLVE);
+        String url;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            url = reader.readLine();
+            while (reader.readLine() != null) {
+                // Drain the rest so the process can exit
+            }
+        }
+        int exitCode = process.waitFor();
+        commitProcessEvent(processEvent, MonitorMetrics.PURPOSE_RESOLVE, process, exitCode);
+        if (exitCode != 0 || url == null) {
+            return null;
+        }
+        
+        try {
+            URI uri = new URI(url.trim());
+            String scheme = uri.getScheme();
+            boolean http = "http".equals(scheme) || "https".equals(scheme);
+            return http && uri.getPath() != null && uri.getPath().endsWith(".m3u8") ? uri : null;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Take over a recorder process left running by a previous session, so no duplicate
+     * recorder is started for this channel. Must be called before the monitor is started.
+     */
+    public void adoptRecording(ProcessHandle process, File recordedFile, File archiveFile) {
+        adoptRecording(process, recordedFile, archiveFile, null);
+    }
+    
+    /**
+     * @param extraQuality quality of the extra output the recorder was started for, null for the main output.
+     *                     Adopted extra outputs are not counted by the throttle, the previous session admitted them.
+     */
+    public void adoptRecording(ProcessHandle process, File recordedFile, File archiveFile, String extraQuality) {
+        Output output = extraQuality != null ? extraOutputs.computeIfAbsent(extraQuality, Output::new) : mainOutput;
+        output.recording.set(true);
+        output.process = process;
+        output.file = recordedFile;
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.RECOVERY, String.format("[%s] Adopted running recording (PID %d) for %s%s: %s", 
+            channel.getPlatform(), process.pid(), channel.getChannelName(), output.label(), recordedFile.getAbsolutePath()), 
+            LogEntry.NO_DURATION);
+        
+        process.onExit().thenRun(() -> {
+            if (output.process == process) {
+                output.recording.set(false);
+                output.process = null;
+                output.file = null;
+            }
+            journal.recordEnd(channel.getKey(), process.pid(), recordedFile);
+            logEvent(LogEntry.Level.INFO, LogEntry.EventType.RECOVERY, String.format("[%s] Adopted recording ended for %s", 
+                channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
+            if (archiveFile != null) {
+                queueMigration(recordedFile, archiveFile);
+            }
+        });
+    }
+    
+    /**
+     * Get the archive location of a recording written to the scratch directory
+     */
+    private File getArchiveFile(File recordedFile) {
+        File archiveChannelDir = new File(settings.getOutputDirectory(), sanitizeFilename(channel.getChannelName()));
+        return new File(archiveChannelDir, recordedFile.getName());
+    }
+    
+    private void queueMigration(File recordedFile, File archiveFile) {
+        if (!recordedFile.exists()) {
+            return;
+        }
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.MIGRATION, String.format("[%s] Queued recording for migration to archive: %s", 
+            channel.getPlatform(), archiveFile.getAbsolutePath()), LogEntry.NO_DURATION);
+        migrator.submit(recordedFile, archiveFile);
+    }
+    
     /**
      * Extract the actual quality used from Streamlink output
      * Streamlink typically outputs something like "Opening stream: 1080p60 (hls)"
      */
-    private String extractQualityFromOutput(String line) {
+    String extractQualityFromOutput(String line) {
         if (line == null) {
             return null;
         }
@@ -372,14 +863,14 @@ public class StreamMonitor implements Runnable {
     }
     
     /**
-     * Create and return the channel-specific directory for recordings
+     * Create and return the channel-specific directory for recordings under the given base directory
      */
-    private File createChannelDirectory() {
-        // Base output directory
-        File baseDir = new File(settings.getOutputDirectory());
+    private File createChannelDirectory(String baseDirectory) {
+        // Base output directory (scratch directory when storage tiering is enabled)
+        File baseDir = new File(baseDirectory);
         
         // Sanitize channel name for directory creation
-        String channelDirName = sanitizeFilename(channelEntry.getChannelName());
+        String channelDirName = sanitizeFilename(channel.getChannelName());
         
         // Create channel directory: outputDir/ChannelName/
         File channelDir = new File(baseDir, channelDirName);
@@ -388,10 +879,10 @@ public class StreamMonitor implements Runnable {
         if (!channelDir.exists()) {
             if (channelDir.mkdirs()) {
                 logMessage(String.format("[%s] Created channel directory: %s", 
-                    channelEntry.getPlatform(), channelDir.getAbsolutePath()));
+                    channel.getPlatform(), channelDir.getAbsolutePath()));
             } else {
-                logMessage(String.format("[%s] Failed to create channel directory: %s", 
-                    channelEntry.getPlatform(), channelDir.getAbsolutePath()));
+                logMessage(LogEntry.Level.ERROR, String.format("[%s] Failed to create channel directory: %s", 
+                    channel.getPlatform(), channelDir.getAbsolutePath()));
                 // Fallback to base directory if channel directory creation fails
                 return baseDir;
             }
@@ -400,21 +891,23 @@ public class StreamMonitor implements Runnable {
         return channelDir;
     }
     
-    private String generateOutputFilename() {
+    private String generateOutputFilename(Output output) {
         // Format: plateforme_YYMMDDHHMMSS_ChannelName_StreamName.mp4
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMddHHmmss"));
-        String platform = sanitizeFilename(channelEntry.getPlatform());
-        String channelName = sanitizeFilename(channelEntry.getChannelName());
+        String platform = sanitizeFilename(channel.getPlatform());
+        String channelName = sanitizeFilename(channel.getChannelName());
         
         // Try to get stream title if possible (simplified for now)
         String streamTitle = getStreamTitle(); // Extract actual stream title from stream metadata
         String sanitizedStreamTitle = sanitizeFilename(streamTitle);
         
-        return String.format("%s_%s_%s_%s.ts", 
-            platform, timestamp, channelName, sanitizedStreamTitle);
+        // Extra outputs get their quality appended, e.g. ..._StreamName_480p.ts
+        String suffix = output.isExtra() ? "_" + sanitizeFilename(output.extraQuality) : "";
+        return String.format("%s_%s_%s_%s%s.ts", 
+            platform, timestamp, channelName, sanitizedStreamTitle, suffix);
     }
     
-    private String sanitizeFilename(String filename) {
+    String sanitizeFilename(String filename) {
         if (filename == null || filename.trim().isEmpty()) {
             return "unknown";
         }
@@ -422,90 +915,178 @@ public class StreamMonitor implements Runnable {
         return filename.replaceAll("[^\\w]", "_").replaceAll("_+", "_").trim();
     }
     
-    private void updateStatus(String status) {
-        Platform.runLater(() -> {
-            channelEntry.setStatus(status);
-            if (statusCallback != null) {
-                statusCallback.onStatusChanged(channelEntry, status);
-            }
-        });
+    private void updateStatus(ChannelStatus status) {
+        // Skip repeats of the same status (e.g. on every offline check)
+        if (status == lastStatus) {
+            return;
+        }
+        lastStatus = status;
+        
+        // Delivered on the monitor thread, the UI coalesces and applies changes on its own thread
+        if (statusCallback != null) {
+            statusCallback.onStatusChanged(channel, status);
+        }
     }
     
     private void logMessage(String message) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-        String logLine = String.format("[%s] %s", timestamp, message);
+        logEvent(LogEntry.Level.INFO, LogEntry.EventType.GENERAL, message, LogEntry.NO_DURATION);
+    }
+    
+    private void logMessage(LogEntry.Level level, String message) {
+        logEvent(level, LogEntry.EventType.GENERAL, message, LogEntry.NO_DURATION);
+    }
+    
+    /**
+     * Publish a structured record, only enqueues so monitor threads never block on console or file I/O
+     */
+    private void logEvent(LogEntry.Level level, LogEntry.EventType eventType, String message, long durationMs) {
+        LogService.get().log(new LogEntry(level, eventType, channel.getPlatform(), 
+            channel.getChannelName(), message, durationMs));
+    }
+    
+    public void stop() {
+        List<ProcessHandle> processes = requestStop();
+        List<CompletableFuture<File>> builtInRecordings = getBuiltInRecordings();
         
-        Platform.runLater(() -> {
-            if (statusCallback != null) {
-                statusCallback.onLogMessage(logLine);
+        // Wait a short time for graceful shutdown, all outputs share the same grace period
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        for (CompletableFuture<File> recording : builtInRecordings) {
+            try {
+                recording.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (java.util.concurrent.TimeoutException | java.util.concurrent.ExecutionException e) {
+                // Still writing its last segments, the recording thread finishes it
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
-        });
+        }
+        for (ProcessHandle process : processes) {
+            try {
+                process.onExit().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (java.util.concurrent.TimeoutException | java.util.concurrent.ExecutionException e) {
+                // Force kill the process tree (especially important for Twitch streams)
+                forceStop(process);
+            } catch (InterruptedException e) {
+                logEvent(LogEntry.Level.WARN, LogEntry.EventType.PROCESS, String.format("[%s] Interrupted while waiting for process termination", 
+                    channel.getPlatform()), LogEntry.NO_DURATION);
+                forceStop(process);
+                Thread.currentThread().interrupt();
+            }
+        }
         
-        // Also print to console for debugging
-        System.out.println(logLine);
+        completeStop();
     }
     
-    public void stop() {
+    /**
+     * Signal the monitor to stop and ask the recording processes (main and extra outputs) to terminate gracefully.
+     * Does not wait; returns the recording processes so the caller can wait for them, empty if idle.
+     */
+    public List<ProcessHandle> requestStop() {
         running.set(false);
-        recording.set(false);
+        wakeUp(); // Let the monitor loop exit without waiting for the next check
         
-        // Force stop the current recording process if it exists
-        if (currentRecordingProcess != null && currentRecordingProcess.isAlive()) {
-            logMessage(String.format("[%s] Forcing stop of recording process for: %s", 
-                channelEntry.getPlatform(), channelEntry.getChannelName()));
+        List<ProcessHandle> processes = new ArrayList<>();
+        for (Output output : outputs()) {
+            output.recording.set(false);
+            HlsRecorder hlsRecorder = output.hlsRecorder;
+            if (hlsRecorder != null) {
+                hlsRecorder.stop(); // Finishes on its own once downloaded segments are written
+            }
             
-            // First try graceful termination
-            currentRecordingProcess.destroy();
+            ProcessHandle process = output.process;
+            if (process == null || !process.isAlive()) {
+                continue;
+            }
             
-            try {
-                // Wait a short time for graceful shutdown
-                boolean terminated = currentRecordingProcess.waitFor(2, java.util.concurrent.TimeUnit.SECONDS);
-                
-                if (!terminated) {
-                    logMessage(String.format("[%s] Process did not terminate gracefully, forcing kill...", 
-                        channelEntry.getPlatform()));
-                    
-                    // Force kill the process tree (especially important for Twitch streams)
-                    forceKillProcessTree(currentRecordingProcess);
-                }
-            } catch (InterruptedException e) {
-                logMessage(String.format("[%s] Interrupted while waiting for process termination", 
-                    channelEntry.getPlatform()));
-                forceKillProcessTree(currentRecordingProcess);
-                Thread.currentThread().interrupt();
+            logEvent(LogEntry.Level.INFO, LogEntry.EventType.PROCESS, String.format("[%s] Forcing stop of recording process for: %s%s", 
+                channel.getPlatform(), channel.getChannelName(), output.label()), LogEntry.NO_DURATION);
+            
+            // First try graceful termination
+            process.destroy();
+            processes.add(process);
+        }
+        return processes;
+    }
+    
+    /**
+     * Built-in HLS recordings of this channel, each completes with its file once it is closed.
+     * Call after requestStop(), they can't be killed and are only waited for.
+     */
+    public List<CompletableFuture<File>> getBuiltInRecordings() {
+        List<CompletableFuture<File>> recordings = new ArrayList<>();
+        for (Output output : outputs()) {
+            CompletableFuture<File> finished = output.hlsFinished;
+            if (finished != null && !finished.isDone()) {
+                recordings.add(finished);
+            }
+        }
+        return recordings;
+    }
+    
+    /**
+     * Escalate to a process tree kill for a recording process that did not terminate gracefully
+     */
+    public void forceStop(ProcessHandle process) {
+        logEvent(LogEntry.Level.WARN, LogEntry.EventType.PROCESS, String.format("[%s] Process did not terminate gracefully, forcing kill...", 
+            channel.getPlatform()), LogEntry.NO_DURATION);
+        forceKillProcessTree(process);
+    }
+    
+    /**
+     * Finish a stop once the recording processes have been dealt with
+     */
+    public void completeStop() {
+        // Journal the ends right away, the recording threads may not get to it before the JVM exits.
+        // A process or built-in recording that is somehow still running stays open in the journal and is handled on next start.
+        for (Output output : outputs()) {
+            ProcessHandle process = output.process;
+            File recordedFile = output.file;
+            if (process != null && recordedFile != null && !process.isAlive()) {
+                journal.recordEnd(channel.getKey(), process.pid(), recordedFile);
+            }
+            CompletableFuture<File> hlsFinished = output.hlsFinished;
+            if (hlsFinished != null && hlsFinished.isDone()) {
+                journal.recordEnd(channel.getKey(), ProcessHandle.current().pid(), hlsFinished.join());
             }
         }
         
-        updateStatus(""); // Clear status when stopped
+        updateStatus(ChannelStatus.IDLE); // Clear status when stopped
+    }
+    
+    /**
+     * The main output followed by the extra outputs started so far
+     */
+    private List<Output> outputs() {
+        List<Output> outputs = new ArrayList<>(1 + extraOutputs.size());
+        outputs.add(mainOutput);
+        outputs.addAll(extraOutputs.values());
+        return outputs;
     }
     
     /**
      * Force kill process tree to ensure all child processes (especially for Twitch) are terminated
      */
-    private void forceKillProcessTree(Process process) {
+    private void forceKillProcessTree(ProcessHandle processHandle) {
         try {
-            // Get the process handle
-            ProcessHandle processHandle = process.toHandle();
-            
             // Kill all descendants first
             processHandle.descendants().forEach(ph -> {
-                logMessage(String.format("[%s] Killing child process PID: %d", 
-                    channelEntry.getPlatform(), ph.pid()));
+                logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.PROCESS, String.format("[%s] Killing child process PID: %d", 
+                    channel.getPlatform(), ph.pid()), LogEntry.NO_DURATION);
                 ph.destroyForcibly();
             });
             
             // Then kill the main process
             processHandle.destroyForcibly();
             
-            logMessage(String.format("[%s] Process tree terminated for: %s", 
-                channelEntry.getPlatform(), channelEntry.getChannelName()));
+            logEvent(LogEntry.Level.INFO, LogEntry.EventType.PROCESS, String.format("[%s] Process tree terminated for: %s", 
+                channel.getPlatform(), channel.getChannelName()), LogEntry.NO_DURATION);
             
         } catch (Exception e) {
-            logMessage(String.format("[%s] Error killing process tree: %s", 
-                channelEntry.getPlatform(), e.getMessage()));
+            logEvent(LogEntry.Level.ERROR, LogEntry.EventType.PROCESS, String.format("[%s] Error killing process tree: %s", 
+                channel.getPlatform(), e.getMessage()), LogEntry.NO_DURATION);
             
             // Fallback: try the old method
-            process.destroyForcibly();
+            processHandle.destroyForcibly();
         }
     }
     
@@ -514,76 +1095,99 @@ public class StreamMonitor implements Runnable {
      * Returns "stream" as fallback if title cannot be extracted
      */
     private String getStreamTitle() {
+        StreamTitleEvent titleEvent = new StreamTitleEvent();
+        titleEvent.begin();
         try {
-            ProcessBuilder pb = new ProcessBuilder();
-            pb.command(settings.getStreamlinkPath(), channelEntry.getChannelUrl(), "--json");
-            
-            Process process = pb.start();
-            
-            StringBuilder jsonOutput = new StringBuilder();
-            
-            // Read JSON output from streamlink
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    jsonOutput.append(line);
-                }
+            // The probe that found the stream live already returned its metadata
+            StreamInfo info = latestStreamInfo;
+            if (info == null) {
+                info = fetchStreamInfo();
             }
-            
-            // Consume error stream to prevent deadlock
-            try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-                while (errorReader.readLine() != null) {
-                    // Just consume stderr
-                }
-            }
-            
-            int exitCode = process.waitFor();
-            
-            if (exitCode == 0 && jsonOutput.length() > 0) {
-                // Parse JSON to extract title
-                String json = jsonOutput.toString();
-                String title = extractTitleFromJson(json);
-                
-                if (title != null && !title.trim().isEmpty()) {
-                    return title;
-                }
+            if (info != null && info.hasTitle()) {
+                titleEvent.found = true;
+                return info.title;
             }
             
         } catch (Exception e) {
-            logMessage(String.format("[%s] Could not extract stream title: %s", 
-                channelEntry.getPlatform(), e.getMessage()));
+            logEvent(LogEntry.Level.WARN, LogEntry.EventType.PROBE, String.format("[%s] Could not extract stream title: %s", 
+                channel.getPlatform(), e.getMessage()), LogEntry.NO_DURATION);
+        } finally {
+            commitEvent(titleEvent);
         }
         
         return "livestream"; // Fallback
     }
     
     /**
-     * Data class for mapping Streamlink JSON metadata structure
+     * Run streamlink --json for the metadata, used when the probe did not provide it (e.g. an injected probe)
      */
-    private static class StreamlinkMetadata {
-        private Metadata metadata;
+    private StreamInfo fetchStreamInfo() throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder();
+        pb.command(settings.getStreamlinkPath(), channel.getChannelUrl(), "--json");
+        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
         
-        private static class Metadata {
-            private String title;
+        ProcessEvent processEvent = new ProcessEvent();
+        processEvent.begin();
+        Process process = pb.start();
+        MonitorMetrics.processSpawned(MonitorMetrics.PURPOSE_TITLE);
+        
+        StreamInfo info = readStreamInfo(process.getInputStream());
+        int exitCode = process.waitFor();
+        commitProcessEvent(processEvent, MonitorMetrics.PURPOSE_TITLE, process, exitCode);
+        return exitCode == 0 ? info : null;
+    }
+    
+    /**
+     * Parse streamlink --json output as it arrives, then drain whatever follows so the process never blocks.
+     * Returns null if the output is not a JSON document.
+     */
+    private StreamInfo readStreamInfo(InputStream output) throws IOException {
+        try (Reader reader = new InputStreamReader(output, StandardCharsets.UTF_8)) {
+            StreamInfo info = null;
+            try {
+                info = StreamInfo.parse(reader);
+            } catch (IOException | IllegalStateException e) {
+                logEvent(LogEntry.Level.DEBUG, LogEntry.EventType.PROBE, String.format("[%s] Unreadable streamlink JSON for %s: %s", 
+                    channel.getPlatform(), channel.getChannelName(), e.getMessage()), LogEntry.NO_DURATION);
+            }
+            char[] discard = new char[1024];
+            while (reader.read(discard) != -1) {
+                // Trailing newline, or the rest of a malformed document
+            }
+            return info;
+        }
+    }
+    
+    private void commitProcessEvent(ProcessEvent event, String purpose, Process process, int exitCode) {
+        event.purpose = purpose;
+        event.pid = process.pid();
+        event.exitCode = exitCode;
+        commitEvent(event);
+    }
+    
+    /**
+     * Fill in the channel fields and commit, a no-op unless a flight recording is running
+     */
+    private void commitEvent(ChannelEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            Channel current = channel;
+            event.platform = current.getPlatform();
+            event.channel = current.getChannelName();
+            event.commit();
         }
     }
     
     /**
-     * Extract title from Streamlink JSON output using Gson
-     * Different platforms have different JSON structures
+     * Extract the title from a complete streamlink --json document
      */
-    private String extractTitleFromJson(String json) {
+    String extractTitleFromJson(String json) {
         try {
-            Gson gson = new Gson();
-            StreamlinkMetadata streamData = gson.fromJson(json, StreamlinkMetadata.class);
-            
-            if (streamData != null && streamData.metadata != null && streamData.metadata.title != null) {
-                return streamData.metadata.title;
-            }
-            
+            StreamInfo info = StreamInfo.parse(new StringReader(json));
+            return info.title;
         } catch (Exception e) {
-            logMessage(String.format("[%s] Error parsing stream metadata: %s", 
-                channelEntry.getPlatform(), e.getMessage()));
+            logEvent(LogEntry.Level.WARN, LogEntry.EventType.PROBE, String.format("[%s] Error parsing stream metadata: %s", 
+                channel.getPlatform(), e.getMessage()), LogEntry.NO_DURATION);
         }
         
         return null;
@@ -593,11 +1197,48 @@ public class StreamMonitor implements Runnable {
         return running.get();
     }
     
+    /**
+     * Files currently being written by this channel's recorders, empty when idle
+     */
+    List<File> getRecordingFiles() {
+        List<File> files = new ArrayList<>();
+        for (Output output : outputs()) {
+            File file = output.file;
+            if (file != null) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+    
+    /**
+     * Whether the main output or any extra output is recording
+     */
     public boolean isRecording() {
-        return recording.get();
+        if (mainOutput.recording.get()) {
+            return true;
+        }
+        for (Output output : extraOutputs.values()) {
+            if (output.recording.get()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public Channel getChannel() {
+        return channel;
+    }
+    
+    /**
+     * Apply an edited definition of the same channel (quality, URL, ...), used from the next check on
+     */
+    void updateChannel(Channel channel) {
+        this.channel = channel;
+        wakeUp();
     }
     
-    public ChannelEntry getChannelEntry() {
-        return channelEntry;
+    public ChannelStatus getStatus() {
+        return lastStatus != null ? lastStatus : ChannelStatus.IDLE;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+/**
+ * Answers whether a channel is live right now. StreamMonitor runs a streamlink probe process
+ * unless another implementation is injected, e.g. a replayed trace in a simulation.
+ */
+@FunctionalInterface
+public interface StreamProbe {
+
+    boolean isLive(Channel channel);
+}
@@ -0,0 +1,23 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+/**
+ * Monotonic clock used by the monitoring engine to time waits and latencies.
+ * Simulations replace it with a virtual clock so no real time has to pass.
+ */
+@FunctionalInterface
+public interface TimeSource {
+
+    TimeSource SYSTEM = System::nanoTime;
+
+    long nanoTime();
+}
@@ -0,0 +1,196 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.hls;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The parts of an HLS playlist (RFC 8216) the recorder needs: media segments with their sequence numbers,
+ * discontinuity sequence, target duration, end marker, init section and encryption, or the variant streams
+ * of a master playlist.
+ */
+public final class HlsPlaylist {
+
+    /**
+     * Media segment, URI resolved against the playlist
+     */
+    public static final class Segment {
+        public final long sequence;
+        public final URI uri;
+        public final double durationSeconds;
+
+        Segment(long sequence, URI uri, double durationSeconds) {
+            this.sequence = sequence;
+            this.uri = uri;
+            this.durationSeconds = durationSeconds;
+        }
+    }
+
+    /**
+     * Variant stream of a master playlist
+     */
+    public static final class Variant {
+        public final URI uri;
+        public final long bandwidth;
+
+        Variant(URI uri, long bandwidth) {
+            this.uri = uri;
+            this.bandwidth = bandwidth;
+        }
+    }
+
+    private static final double DEFAULT_TARGET_DURATION = 6;
+
+    public final double targetDurationSeconds;
+    public final long mediaSequence;
+    public final long discontinuitySequence;
+    public final List<Segment> segments;
+    public final List<Variant> variants;
+    public final URI initSection;
+    public final boolean endList;
+    public final boolean encrypted;
+
+    private HlsPlaylist(double targetDurationSeconds, long mediaSequence, long discontinuitySequence,
+                        List<Segment> segments, List<Variant> variants, URI initSection, boolean endList,
+                        boolean encrypted) {
+        this.targetDurationSeconds = targetDurationSeconds;
+        this.mediaSequence = mediaSequence;
+        this.discontinuitySequence = discontinuitySequence;
+        this.segments = segments;
+        this.variants = variants;
+        this.initSection = initSection;
+        this.endList = endList;
+        this.encrypted = encrypted;
+    }
+
+    public boolean isMaster() {
+        return !variants.isEmpty();
+    }
+
+    /**
+     * Variant with the highest bandwidth, null for a media playlist
+     */
+    public Variant bestVariant() {
+        Variant best = null;
+        for (Variant variant : variants) {
+            if (best == null || variant.bandwidth > best.bandwidth) {
+                best = variant;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Parse a playlist, relative URIs are resolved against the playlist's own URI
+     */
+    public static HlsPlaylist parse(URI base, String text) {
+        String[] lines = text.split("\r?\n");
+        if (lines.length == 0 || !lines[0].trim().startsWith("#EXTM3U")) {
+            throw new IllegalArgumentException("Not an HLS playlist");
+        }
+
+        double targetDuration = DEFAULT_TARGET_DURATION;
+        long sequence = 0;
+        long mediaSequence = 0;
+        long discontinuitySequence = 0;
+        double segmentDuration = 0;
+        long pendingBandwidth = -1;
+        URI initSection = null;
+        boolean endList = false;
+        boolean encrypted = false;
+        List<Segment> segments = new ArrayList<>();
+        List<Variant> variants = new ArrayList<>();
+
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.startsWith("#EXT-X-TARGETDURATION:")) {
+                targetDuration = Double.parseDouble(line.substring(22));
+            } else if (line.startsWith("#EXT-X-MEDIA-SEQUENCE:")) {
+                sequence = Long.parseLong(line.substring(22));
+                mediaSequence = sequence;
+            } else if (line.startsWith("#EXT-X-DISCONTINUITY-SEQUENCE:")) {
+                discontinuitySequence = Long.parseLong(line.substring(30));
+            } else if (line.startsWith("#EXTINF:")) {
+                int comma = line.indexOf(',');
+                segmentDuration = Double.parseDouble(comma < 0 ? line.substring(8) : line.substring(8, comma));
+            } else if (line.startsWith("#EXT-X-STREAM-INF:")) {
+                String bandwidth = attribute(line, "BANDWIDTH");
+                pendingBandwidth = bandwidth != null ? Long.parseLong(bandwidth) : 0;
+            } else if (line.startsWith("#EXT-X-MAP:")) {
+                String uri = attribute(line, "URI");
+                if (uri != null) {
+                    initSection = base.resolve(uri);
+                }
+            } else if (line.startsWith("#EXT-X-KEY:")) {
+                encrypted |= !"NONE".equals(attribute(line, "METHOD"));
+            } else if (line.startsWith("#EXT-X-ENDLIST")) {
+                endList = true;
+            } else if (!line.startsWith("#")) {
+                if (pendingBandwidth >= 0) {
+                    variants.add(new Variant(base.resolve(line), pendingBandwidth));
+                    pendingBandwidth = -1;
+                } else {
+                    segments.add(new Segment(sequence++, base.resolve(line), segmentDuration));
+                    segmentDuration = 0;
+                }
+            }
+        }
+        return new HlsPlaylist(targetDuration, mediaSequence, discontinuitySequence, Collections.unmodifiableList(segments),
+            Collections.unmodifiableList(variants), initSection, endList, encrypted);
+    }
+
+    /**
+     * Value of a NAME=value or NAME="value" attribute in a tag line
+     */
+    static String attribute(String line, String name) {
+        int colon = line.indexOf(':');
+        int index = colon + 1;
+        while (index < line.length()) {
+            int equals = line.indexOf('=', index);
+            if (equals < 0) {
+                return null;
+            }
+            String key = line.substring(index, equals).trim();
+            int valueStart = equals + 1;
+            int valueEnd;
+            String value;
+            if (valueStart < line.length() && line.charAt(valueStart) == '"') {
+                valueEnd = line.indexOf('"', valueStart + 1);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                value = line.substring(valueStart + 1, valueEnd);
+                valueEnd++;
+            } else {
+                valueEnd = line.indexOf(',', valueStart);
+                if (valueEnd < 0) {
+                    valueEnd = line.length();
+                }
+                value = line.substring(valueStart, valueEnd);
+            }
+            if (key.equals(name)) {
+                return value;
+            }
+            index = line.indexOf(',', valueEnd);
+            if (index < 0) {
+                return null;
+            }
+            index++;
+        }
+        return null;
+    }
+}
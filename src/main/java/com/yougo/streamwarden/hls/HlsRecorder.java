@@ -0,0 +1,390 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.hls;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * In-process recorder for a live HLS media playlist, an alternative to a streamlink process per recording.
+ * The playlist is refreshed every target duration and only segments with a new media sequence number are
+ * fetched (a stream restarting its numbering is joined again at the live edge), up to segmentThreads at a
+ * time over one HttpClient shared by all recordings. Segments are downloaded to part files and appended to
+ * the output in sequence order with FileChannel.transferTo.
+ */
+public class HlsRecorder {
+
+    private static final String USER_AGENT =
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+    private static final long STOP_GRACE_MS = 2000;
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .executor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("HlsClient");
+            return t;
+        }))
+        .build();
+
+    /**
+     * A scheduled segment, its result completes once the part file is complete (or all attempts failed)
+     */
+    private static final class PendingSegment {
+        final HlsPlaylist.Segment segment;
+        final Path part;
+        final CompletableFuture<Path> result = new CompletableFuture<>();
+
+        PendingSegment(HlsPlaylist.Segment segment, Path part) {
+            this.segment = segment;
+            this.part = part;
+        }
+    }
+
+    private final URI playlistUri;
+    private final Path output;
+    private final int segmentThreads;
+    private final int liveEdge;
+    private final int segmentAttempts;
+    private final Duration segmentTimeout;
+    private final long streamTimeoutNanos;
+
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final Deque<PendingSegment> pending = new ArrayDeque<>(); // Scheduled, in sequence order
+    private final Deque<PendingSegment> queued = new ArrayDeque<>(); // Not yet downloading, guarded by this
+    private int inFlight; // Guarded by this
+
+    private URI mediaUri;
+    private HlsPlaylist firstPlaylist;
+
+    private volatile long bytesWritten;
+    private volatile long segmentsWritten;
+    private volatile long segmentsSkipped;
+
+    public HlsRecorder(URI playlistUri, Path output, int segmentThreads, int liveEdge, int segmentAttempts,
+                       int segmentTimeoutSeconds, int streamTimeoutSeconds) {
+        this.playlistUri = playlistUri;
+        this.output = output;
+        this.segmentThreads = Math.max(1, segmentThreads);
+        this.liveEdge = Math.max(1, liveEdge);
+        this.segmentAttempts = Math.max(1, segmentAttempts);
+        this.segmentTimeout = Duration.ofSeconds(Math.max(1, segmentTimeoutSeconds));
+        this.streamTimeoutNanos = TimeUnit.SECONDS.toNanos(Math.max(1, streamTimeoutSeconds));
+    }
+
+    /**
+     * Load the first playlist, following a master playlist to its highest bandwidth variant.
+     * Fails, without creating the output, if it can't be loaded or the stream is encrypted.
+     */
+    public void open() throws IOException, InterruptedException {
+        URI uri = playlistUri;
+        HlsPlaylist playlist = fetchPlaylist(uri);
+        if (playlist.isMaster()) {
+            uri = playlist.bestVariant().uri;
+            playlist = fetchPlaylist(uri);
+        }
+        if (playlist.encrypted) {
+            throw new IOException("Encrypted HLS streams are not supported");
+        }
+        mediaUri = uri;
+        firstPlaylist = playlist;
+    }
+
+    /**
+     * Record until the playlist ends, stops updating for the stream timeout, or stop() is called
+     *
+     * @return bytes written
+     */
+    public long record() throws IOException, InterruptedException {
+        if (firstPlaylist == null) {
+            open();
+        }
+        HlsPlaylist playlist = firstPlaylist;
+
+        Path partsDir = Files.createDirectories(output.resolveSibling("." + output.getFileName() + ".parts"));
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            if (playlist.initSection != null) {
+                Path initPart = partsDir.resolve("init.part");
+                try {
+                    append(out, download(playlist.initSection, initPart, segmentAttempts).get());
+                } catch (ExecutionException e) {
+                    throw new IOException("Could not load the init section: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+
+            long nextSequence = -1;
+            long lastNewSegmentNanos = System.nanoTime();
+            double targetDuration = playlist.targetDurationSeconds;
+            HlsPlaylist previous = null;
+            int restarts = 0;
+            while (!isStopped()) {
+                boolean added = false;
+                if (playlist != null) {
+                    targetDuration = playlist.targetDurationSeconds;
+                    List<HlsPlaylist.Segment> segments = playlist.segments;
+                    if (previous != null && nextSequence >= 0 && isRestart(previous, playlist, nextSequence)) {
+                        // The stream restarted with new numbering, join the new one at its live edge
+                        nextSequence = -1;
+                        restarts++;
+                    }
+                    previous = playlist;
+                    // Join at the live edge like streamlink's --hls-live-edge
+                    int from = nextSequence < 0 ? Math.max(0, segments.size() - liveEdge) : 0;
+                    for (int i = from; i < segments.size(); i++) {
+                        HlsPlaylist.Segment segment = segments.get(i);
+                        if (segment.sequence < nextSequence) {
+                            continue;
+                        }
+                        if (nextSequence >= 0 && segment.sequence > nextSequence) {
+                            segmentsSkipped += segment.sequence - nextSequence; // Expired before we saw them
+                        }
+                        // Part names include the restart count, sequence numbers repeat across restarts
+                        schedule(new PendingSegment(segment, partsDir.resolve(restarts + "-" + segment.sequence + ".part")));
+                        nextSequence = segment.sequence + 1;
+                        added = true;
+                    }
+                    if (playlist.endList) {
+                        break;
+                    }
+                }
+                writeCompleted(out, 0);
+
+                long now = System.nanoTime();
+                if (added) {
+                    lastNewSegmentNanos = now;
+                } else if (now - lastNewSegmentNanos > streamTimeoutNanos) {
+                    break; // Playlist stopped updating, the stream is over
+                }
+                // RFC 8216 6.3.4: wait a target duration, half of it after a refresh without new segments
+                long waitMs = (long) (targetDuration * (added ? 1000 : 500));
+                if (stopped.await(Math.max(100, waitMs), TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+                playlist = tryFetchPlaylist(mediaUri);
+            }
+
+            writeCompleted(out, isStopped() ? STOP_GRACE_MS : Long.MAX_VALUE);
+        } finally {
+            cleanUp(partsDir);
+        }
+        return bytesWritten;
+    }
+
+    /**
+     * Whether a refreshed playlist belongs to a restarted stream rather than the same one sliding forward:
+     * its segments are numbered below the ones already scheduled, or its discontinuity sequence changed
+     * without segments leaving the playlist (RFC 8216 only increments it when they do)
+     */
+    static boolean isRestart(HlsPlaylist previous, HlsPlaylist current, long nextSequence) {
+        if (current.segments.isEmpty()) {
+            return false;
+        }
+        long lastSequence = current.segments.get(current.segments.size() - 1).sequence;
+        if (lastSequence < nextSequence - 1 || current.mediaSequence < previous.mediaSequence) {
+            return true;
+        }
+        return current.discontinuitySequence < previous.discontinuitySequence
+            || (current.discontinuitySequence != previous.discontinuitySequence
+                && current.mediaSequence == previous.mediaSequence);
+    }
+
+    /**
+     * Ask the recording to end, segments already downloaded are still written
+     */
+    public void stop() {
+        stopped.countDown();
+    }
+
+    public boolean isStopped() {
+        return stopped.getCount() == 0;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getSegmentsWritten() {
+        return segmentsWritten;
+    }
+
+    public long getSegmentsSkipped() {
+        return segmentsSkipped;
+    }
+
+    private void schedule(PendingSegment segment) {
+        pending.add(segment);
+        synchronized (this) {
+            queued.add(segment);
+        }
+        pumpDownloads();
+    }
+
+    /**
+     * Start queued downloads while fewer than segmentThreads are running
+     */
+    private void pumpDownloads() {
+        while (true) {
+            PendingSegment next;
+            synchronized (this) {
+                if (inFlight >= segmentThreads || queued.isEmpty()) {
+                    return;
+                }
+                next = queued.poll();
+                inFlight++;
+            }
+            download(next.segment.uri, next.part, segmentAttempts).whenComplete((path, error) -> {
+                synchronized (this) {
+                    inFlight--;
+                }
+                if (error != null) {
+                    next.result.completeExceptionally(error);
+                } else {
+                    next.result.complete(path);
+                }
+                pumpDownloads();
+            });
+        }
+    }
+
+    private CompletableFuture<Path> download(URI uri, Path target, int attemptsLeft) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(segmentTimeout)
+            .header("User-Agent", USER_AGENT)
+            .GET()
+            .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofFile(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+            .thenApply(response -> {
+                if (response.statusCode() != 200) {
+                    throw new CompletionException(new IOException("HTTP " + response.statusCode() + " for " + uri));
+                }
+                return response.body();
+            })
+            .exceptionallyCompose(error -> attemptsLeft > 1 && !isStopped()
+                ? download(uri, target, attemptsLeft - 1)
+                : CompletableFuture.failedFuture(error));
+    }
+
+    /**
+     * Append finished segments in sequence order, waiting up to waitMs in total for ones still downloading.
+     * A segment that failed all its attempts is skipped, leaving a gap in the recording.
+     */
+    private void writeCompleted(FileChannel out, long waitMs) throws IOException, InterruptedException {
+        long deadline = waitMs == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs);
+        while (!pending.isEmpty()) {
+            PendingSegment head = pending.peek();
+            if (!head.result.isDone()) {
+                long remaining = deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    head.result.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (ExecutionException | TimeoutException e) {
+                    // Handled below once done, or retried on the next call
+                }
+                if (!head.result.isDone()) {
+                    return;
+                }
+            }
+            pending.poll();
+            try {
+                append(out, head.result.get());
+            } catch (ExecutionException e) {
+                segmentsSkipped++;
+                Files.deleteIfExists(head.part);
+            }
+        }
+    }
+
+    private void append(FileChannel out, Path part) throws IOException {
+        long size;
+        try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+            size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+        Files.deleteIfExists(part);
+        bytesWritten += size;
+        segmentsWritten++;
+    }
+
+    private HlsPlaylist fetchPlaylist(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(segmentTimeout)
+            .header("User-Agent", USER_AGENT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode() + " for playlist " + uri);
+        }
+        try {
+            return HlsPlaylist.parse(uri, response.body());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid playlist " + uri + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Refresh the playlist, null if this attempt failed (the stream timeout decides when to give up)
+     */
+    private HlsPlaylist tryFetchPlaylist(URI uri) throws InterruptedException {
+        try {
+            return fetchPlaylist(uri);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void cleanUp(Path partsDir) {
+        try (Stream<Path> parts = Files.list(partsDir)) {
+            parts.forEach(part -> {
+                try {
+                    Files.deleteIfExists(part);
+                } catch (IOException e) {
+                    // A download still finishing after stop, left behind
+                }
+            });
+        } catch (IOException e) {
+            // Nothing to clean up
+        }
+        try {
+            Files.deleteIfExists(partsDir);
+        } catch (IOException e) {
+            // Not empty, see above
+        }
+    }
+}
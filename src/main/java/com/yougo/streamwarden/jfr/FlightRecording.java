@@ -0,0 +1,100 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.jfr;
+
+import com.yougo.streamwarden.logging.LogService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Optional always-on Java Flight Recorder recording, kept as a bounded ring on disk
+ * (oldest chunks are dropped past the age or size limit) and dumped to logs/streamwarden.jfr
+ * when the JVM exits. Uses the JDK "default" settings, plus the StreamWarden events.
+ */
+public final class FlightRecording {
+
+    private static final String DUMP_FILE = "logs" + File.separator + "streamwarden.jfr";
+
+    private static Recording recording;
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Start, update or stop the continuous recording to match the settings
+     */
+    public static synchronized void configure(boolean enabled, int maxAgeMinutes, int maxSizeMB) {
+        if (!enabled) {
+            stop();
+            return;
+        }
+        Duration maxAge = Duration.ofMinutes(Math.max(1, maxAgeMinutes));
+        long maxSize = Math.max(1, maxSizeMB) * 1024L * 1024L;
+        if (recording != null) {
+            // Ring bounds can be changed on a running recording
+            recording.setMaxAge(maxAge);
+            recording.setMaxSize(maxSize);
+            return;
+        }
+
+        try {
+            Path dumpFile = Path.of(DUMP_FILE);
+            Files.createDirectories(dumpFile.getParent());
+            Recording newRecording = new Recording(Configuration.getConfiguration("default"));
+            newRecording.setName("StreamWarden");
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSize);
+            newRecording.setDumpOnExit(true);
+            newRecording.setDestination(dumpFile);
+            newRecording.start();
+            recording = newRecording;
+            LogService.get().info(String.format("[System] Flight recording started (last %d min, up to %d MB), dumped to %s on exit",
+                maxAge.toMinutes(), maxSize / (1024 * 1024), DUMP_FILE));
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            LogService.get().error("[System] Could not start the flight recording: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the current ring contents to the dump file without stopping the recording
+     */
+    public static synchronized boolean dump() {
+        if (recording == null) {
+            return false;
+        }
+        try {
+            recording.dump(Path.of(DUMP_FILE));
+            return true;
+        } catch (IOException e) {
+            LogService.get().error("[System] Could not dump the flight recording: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void stop() {
+        if (recording == null) {
+            return;
+        }
+        // Keep what was captured so far before discarding the ring
+        dump();
+        recording.close();
+        recording = null;
+        LogService.get().info("[System] Flight recording stopped");
+    }
+}
@@ -0,0 +1,32 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stream liveness probe (streamlink --json), from process start to exit
+ */
+@Name("streamwarden.Probe")
+@Label("Stream Probe")
+@Description("Check whether a channel is live")
+@Category({"StreamWarden", "Monitor"})
+@StackTrace(false)
+public class ProbeEvent extends ChannelEvent {
+
+    @Label("Result")
+    @Description("live, offline or error")
+    public String result;
+}
@@ -0,0 +1,37 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lifetime of a streamlink process, from spawn to exit
+ */
+@Name("streamwarden.Process")
+@Label("Streamlink Process")
+@Category({"StreamWarden", "Process"})
+@StackTrace(false)
+public class ProcessEvent extends ChannelEvent {
+
+    @Label("Purpose")
+    @Description("probe, title or record")
+    public String purpose;
+
+    @Label("PID")
+    public long pid;
+
+    @Label("Exit Code")
+    public int exitCode;
+}
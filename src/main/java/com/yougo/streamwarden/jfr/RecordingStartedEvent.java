@@ -0,0 +1,34 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A recorder was started, committed right away so it is in the ring even if the recording never ends
+ */
+@Name("streamwarden.RecordingStarted")
+@Label("Recording Started")
+@Category({"StreamWarden", "Recording"})
+@StackTrace(false)
+public class RecordingStartedEvent extends ChannelEvent {
+
+    @Label("File")
+    public String file;
+
+    @Label("Detect To Record")
+    @Timespan(Timespan.MILLISECONDS)
+    public long detectToRecord;
+}
@@ -0,0 +1,33 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One batch of status changes applied to the table on the JavaFX thread
+ */
+@Name("streamwarden.StatusDispatch")
+@Label("Status Dispatch")
+@Category({"StreamWarden", "UI"})
+@StackTrace(false)
+public class StatusDispatchEvent extends Event {
+
+    @Label("Pending")
+    public int pending;
+
+    @Label("Applied")
+    public int applied;
+}
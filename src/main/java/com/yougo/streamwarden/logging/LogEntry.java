@@ -0,0 +1,108 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.logging;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Immutable structured log record: level, event type, the channel it relates to and an optional duration.
+ * Timestamps are only formatted when the record is rendered, on the log writer thread or the UI.
+ */
+public final class LogEntry {
+    
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+    
+    /**
+     * What the record is about, used to filter and aggregate logs
+     */
+    public enum EventType {
+        GENERAL,
+        MONITOR,
+        STREAM_STATUS,
+        PROBE,
+        RECORDING,
+        PROCESS,
+        MIGRATION,
+        RECOVERY,
+        STARTUP,
+        SHUTDOWN
+    }
+    
+    public static final String SYSTEM = "System";
+    public static final long NO_DURATION = -1;
+    
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+    
+    private final long timestamp;
+    private final Level level;
+    private final EventType eventType;
+    private final String platform;
+    private final String channel;
+    private final String message;
+    private final long durationMs;
+    
+    public LogEntry(Level level, EventType eventType, String platform, String channel, 
+                    String message, long durationMs) {
+        this.timestamp = System.currentTimeMillis();
+        this.level = level;
+        this.eventType = eventType;
+        this.platform = platform;
+        this.channel = channel;
+        this.message = message;
+        this.durationMs = durationMs;
+    }
+    
+    public LogEntry(Level level, String platform, String channel, String message) {
+        this(level, EventType.GENERAL, platform, channel, message, NO_DURATION);
+    }
+    
+    /**
+     * Create an application-level entry not related to a specific channel
+     */
+    public static LogEntry system(Level level, String message) {
+        return new LogEntry(level, SYSTEM, "", message);
+    }
+    
+    /**
+     * Create an application-level entry of the given event type
+     */
+    public static LogEntry system(Level level, EventType eventType, String message, long durationMs) {
+        return new LogEntry(level, eventType, SYSTEM, "", message, durationMs);
+    }
+    
+    public long getTimestamp() { return timestamp; }
+    public Level getLevel() { return level; }
+    public EventType getEventType() { return eventType; }
+    public String getPlatform() { return platform; }
+    public String getChannel() { return channel; }
+    public String getMessage() { return message; }
+    public long getDurationMs() { return durationMs; }
+    
+    public boolean hasDuration() {
+        return durationMs != NO_DURATION;
+    }
+    
+    /**
+     * Format as a single log line: "[HH:mm:ss] message"
+     */
+    public String format() {
+        LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+        return "[" + TIME_FORMAT.format(time) + "] " + message;
+    }
+    
+    @Override
+    public String toString() {
+        return format();
+    }
+}
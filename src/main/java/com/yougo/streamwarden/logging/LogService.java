@@ -0,0 +1,279 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous logging: callers only enqueue records on a lock-free queue, a single background
+ * writer thread renders them to the console and to a size-rotated log file, and hands them to
+ * subscribers (such as the activity log view).
+ */
+public final class LogService {
+
+    private static final String LOGS_DIR = "logs";
+    private static final String LOG_FILE = LOGS_DIR + File.separator + "streamwarden.log";
+    private static final int MAX_PENDING = 50_000;
+    private static final int MAX_BATCH = 1024;
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private static final LogService INSTANCE = new LogService();
+
+    private final Queue<LogEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final List<LogSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Thread writerThread;
+    private final PrintStream console = System.out;
+
+    private volatile LogEntry.Level minLevel = LogEntry.Level.INFO;
+    private volatile boolean consoleEnabled = true;
+    private volatile boolean writerParked = false;
+    private volatile boolean running = true;
+
+    // Only touched by the writer thread (or by shutdown once the writer has stopped)
+    private RollingFileWriter fileWriter;
+    private volatile FileConfig pendingFileConfig = new FileConfig(10, 5);
+
+    private static final class FileConfig {
+        final int maxFileSizeMB;
+        final int maxFiles;
+
+        FileConfig(int maxFileSizeMB, int maxFiles) {
+            this.maxFileSizeMB = maxFileSizeMB;
+            this.maxFiles = maxFiles;
+        }
+    }
+
+    private LogService() {
+        writerThread = new Thread(this::writerLoop, "LogWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public static LogService get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Apply logging settings: minimum level, console output and file rotation limits
+     */
+    public void configure(LogEntry.Level minLevel, boolean consoleEnabled, int maxFileSizeMB, int maxFiles) {
+        this.minLevel = minLevel;
+        this.consoleEnabled = consoleEnabled;
+        this.pendingFileConfig = new FileConfig(Math.max(1, maxFileSizeMB), Math.max(1, maxFiles));
+        LockSupport.unpark(writerThread);
+    }
+
+    public boolean isEnabled(LogEntry.Level level) {
+        return level.compareTo(minLevel) >= 0;
+    }
+
+    public void subscribe(LogSubscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(LogSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Enqueue a record, never blocks the caller
+     */
+    public void log(LogEntry entry) {
+        if (!isEnabled(entry.getLevel()) || !running) {
+            return;
+        }
+        // Shed load instead of growing without bound if the writer can't keep up
+        if (pendingCount.incrementAndGet() > MAX_PENDING) {
+            pendingCount.decrementAndGet();
+            droppedCount.incrementAndGet();
+            return;
+        }
+        queue.offer(entry);
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    public void info(String message) {
+        log(LogEntry.system(LogEntry.Level.INFO, message));
+    }
+
+    public void warn(String message) {
+        log(LogEntry.system(LogEntry.Level.WARN, message));
+    }
+
+    public void error(String message) {
+        log(LogEntry.system(LogEntry.Level.ERROR, message));
+    }
+
+    private void writerLoop() {
+        while (running) {
+            if (!drain()) {
+                writerParked = true;
+                // Re-check after publishing the flag so a record offered meanwhile is not missed
+                if (queue.isEmpty() && running) {
+                    LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
+                }
+                writerParked = false;
+            }
+        }
+    }
+
+    /**
+     * Write out pending records, returns false if there was nothing to do
+     */
+    private synchronized boolean drain() {
+        applyFileConfig();
+
+        LogEntry entry = queue.poll();
+        if (entry == null) {
+            reportDropped();
+            return false;
+        }
+
+        StringBuilder consoleBatch = consoleEnabled ? new StringBuilder() : null;
+        int count = 0;
+        while (entry != null) {
+            pendingCount.decrementAndGet();
+
+            if (consoleBatch != null) {
+                consoleBatch.append(entry.format()).append(System.lineSeparator());
+            }
+            writeToFile(entry);
+            for (LogSubscriber subscriber : subscribers) {
+                try {
+                    subscriber.onLog(entry);
+                } catch (RuntimeException e) {
+                    // A failing subscriber must not stop logging
+                }
+            }
+
+            if (++count >= MAX_BATCH) {
+                break;
+            }
+            entry = queue.poll();
+        }
+
+        // One console write per batch, so slow consoles only cost the writer thread
+        if (consoleBatch != null && consoleBatch.length() > 0) {
+            console.print(consoleBatch);
+            console.flush();
+        }
+        flushFile();
+        return true;
+    }
+
+    private void applyFileConfig() {
+        FileConfig config = pendingFileConfig;
+        if (config == null) {
+            return;
+        }
+        pendingFileConfig = null;
+
+        if (fileWriter != null) {
+            fileWriter.close();
+        }
+        try {
+            fileWriter = new RollingFileWriter(new File(LOG_FILE), config.maxFileSizeMB * 1024L * 1024L, config.maxFiles);
+        } catch (IOException e) {
+            System.err.println("Error opening log file: " + e.getMessage());
+            fileWriter = null;
+        }
+    }
+
+    private void writeToFile(LogEntry entry) {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.write(formatStructured(entry));
+        } catch (IOException e) {
+            System.err.println("Error writing log file: " + e.getMessage());
+        }
+    }
+
+    private void flushFile() {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.flush();
+        } catch (IOException e) {
+            System.err.println("Error writing log file: " + e.getMessage());
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            queue.offer(LogEntry.system(LogEntry.Level.WARN,
+                String.format("Log queue overflow, %d record(s) dropped", dropped)));
+            pendingCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Render a record as a key=value line for the log file
+     */
+    static String formatStructured(LogEntry entry) {
+        StringBuilder line = new StringBuilder(128);
+        line.append(FILE_TIME_FORMAT.format(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getTimestamp()), ZoneId.systemDefault())))
+            .append(' ').append(String.format("%-5s", entry.getLevel()))
+            .append(" event=").append(entry.getEventType())
+            .append(" platform=").append(entry.getPlatform());
+        if (entry.getChannel() != null && !entry.getChannel().isEmpty()) {
+            line.append(" channel=").append(entry.getChannel());
+        }
+        if (entry.hasDuration()) {
+            line.append(" duration_ms=").append(entry.getDurationMs());
+        }
+        line.append(" msg=\"").append(entry.getMessage().replace("\"", "\\\"")).append('"');
+        return line.toString();
+    }
+
+    /**
+     * Stop the writer thread and synchronously write out everything still queued
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        while (drain()) {
+            // Keep draining until the queue is empty
+        }
+        if (fileWriter != null) {
+            fileWriter.close();
+            fileWriter = null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.logging;
+
+/**
+ * Receives published log records. Called on the log writer thread, implementations
+ * must be quick and hand the record off to their own thread if needed.
+ */
+public interface LogSubscriber {
+    void onLog(LogEntry entry);
+}
@@ -0,0 +1,93 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Size-rotated log file: once the active file exceeds maxBytes it is renamed to name.1,
+ * older files shift to name.2 ... name.N and the oldest one is deleted.
+ * Not thread-safe, only used from the log writer thread.
+ */
+class RollingFileWriter {
+    
+    private final File file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private BufferedWriter writer;
+    private long currentSize;
+    
+    RollingFileWriter(File file, long maxBytes, int maxFiles) throws IOException {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+        
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        open();
+    }
+    
+    private void open() throws IOException {
+        currentSize = file.exists() ? file.length() : 0;
+        writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+    }
+    
+    void write(String line) throws IOException {
+        if (currentSize >= maxBytes) {
+            rotate();
+        }
+        writer.write(line);
+        writer.newLine();
+        // Close enough for rotation purposes, avoids encoding every line twice
+        currentSize += line.length() + 1;
+    }
+    
+    void flush() throws IOException {
+        writer.flush();
+    }
+    
+    private void rotate() throws IOException {
+        writer.close();
+        
+        File oldest = rotatedFile(maxFiles);
+        if (oldest.exists()) {
+            oldest.delete();
+        }
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            File rotated = rotatedFile(i);
+            if (rotated.exists()) {
+                rotated.renameTo(rotatedFile(i + 1));
+            }
+        }
+        file.renameTo(rotatedFile(1));
+        
+        open();
+    }
+    
+    private File rotatedFile(int index) {
+        return new File(file.getPath() + "." + index);
+    }
+    
+    void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            // Nothing left to do with a broken log file
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-memory histogram with log-linear buckets (HDR style): each power of two is split into
+ * SUB_BUCKETS linear sub-buckets, so every bucket bound is within 25% of the recorded value.
+ * Recording is a couple of bit operations and one striped increment, no locks and no allocation.
+ */
+public final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final LongAdder[] buckets;
+    private final long[] upperBounds;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final double unitsPerExport;
+
+    /**
+     * @param maxValue largest value that gets a finite bucket, larger values only count towards +Inf
+     * @param unitsPerExport divisor applied when exporting, e.g. 1000 to record milliseconds and export seconds
+     */
+    Histogram(long maxValue, double unitsPerExport) {
+        // One extra bucket past the one holding maxValue collects the overflow, exported as +Inf
+        int bucketCount = bucketIndex(Math.max(maxValue, SUB_BUCKETS)) + 2;
+        this.buckets = new LongAdder[bucketCount];
+        this.upperBounds = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new LongAdder();
+            upperBounds[i] = upperBound(i);
+        }
+        this.unitsPerExport = unitsPerExport;
+    }
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets[Math.min(bucketIndex(clamped), buckets.length - 1)].increment();
+        count.increment();
+        sum.add(clamped);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Largest value (inclusive) that falls into the given bucket
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Upper bound of the bucket holding the given percentile (0-100), Long.MAX_VALUE if it overflowed
+     */
+    public long valueAtPercentile(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length - 1; i++) {
+            cumulative += buckets[i].sum();
+            if (cumulative >= rank) {
+                return upperBounds[i];
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Append the cumulative buckets, sum and count in Prometheus text format
+     */
+    void writeTo(StringBuilder out, String name, String labels) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length - 1; i++) {
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket{").append(prefix).append("le=\"")
+                .append(MetricsRegistry.formatValue(upperBounds[i] / unitsPerExport)).append("\"} ")
+                .append(cumulative).append('\n');
+        }
+        cumulative += buckets[buckets.length - 1].sum();
+        out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+        String braces = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_sum").append(braces).append(' ')
+            .append(MetricsRegistry.formatValue(sum.sum() / unitsPerExport)).append('\n');
+        out.append(name).append("_count").append(braces).append(' ').append(cumulative).append('\n');
+    }
+}
@@ -0,0 +1,98 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.yougo.streamwarden.logging.LogService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the metrics registry in Prometheus text format on GET /metrics.
+ * Scrapes are rare and cheap, a single request thread is enough.
+ */
+public class MetricsServer {
+
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+
+    public MetricsServer(String bindAddress, int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        this.requestExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("MetricsServer");
+            return t;
+        });
+        server.setExecutor(requestExecutor);
+        server.createContext("/metrics", this::handleMetrics);
+        registerProcessMetrics();
+    }
+
+    public void start() {
+        server.start();
+        LogService.get().info("[System] Metrics available on http://" + server.getAddress().getHostString()
+            + ":" + server.getAddress().getPort() + "/metrics");
+    }
+
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * JVM resource gauges, sampled from the platform MXBeans at scrape time
+     */
+    private static void registerProcessMetrics() {
+        MetricsRegistry registry = MetricsRegistry.get();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        registry.gauge("jvm_threads_current", "Current number of live threads", threads::getThreadCount);
+        registry.gauge("jvm_threads_daemon", "Current number of live daemon threads", threads::getDaemonThreadCount);
+        registry.gauge("jvm_threads_peak", "Peak number of live threads", threads::getPeakThreadCount);
+        registry.gauge("jvm_memory_heap_used_bytes", "Used heap memory",
+            () -> memory.getHeapMemoryUsage().getUsed());
+        registry.gauge("process_start_time_seconds", "Start time of the process since the epoch",
+            () -> ManagementFactory.getRuntimeMXBean().getStartTime() / 1000.0);
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = MetricsRegistry.get().scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
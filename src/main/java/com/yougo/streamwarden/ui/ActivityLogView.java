@@ -0,0 +1,200 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.ui;
+
+import com.yougo.streamwarden.logging.LogEntry;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+import javafx.geometry.Pos;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Activity log panel: a virtualized list over a fixed-capacity ring buffer.
+ * Entries can be appended from any thread and are applied in one batch per pulse.
+ * The full history is kept on disk by LogService, this view only shows the latest entries.
+ */
+public class ActivityLogView extends VBox {
+
+    private static final int CAPACITY = 5000;
+    private static final String ALL = "All";
+
+    private final Queue<LogEntry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final LogRingBuffer<LogEntry> buffer = new LogRingBuffer<>(CAPACITY);
+    private final FilteredList<LogEntry> filteredEntries = new FilteredList<>(buffer);
+    private final ListView<LogEntry> listView = new ListView<>(filteredEntries);
+
+    private ComboBox<String> levelFilter;
+    private ComboBox<String> platformFilter;
+    private TextField channelFilter;
+
+    public ActivityLogView() {
+        super(5);
+
+        listView.setPrefHeight(160);
+        listView.setFixedCellSize(20); // Lets the virtual flow skip measuring each row
+        listView.setCellFactory(view -> new LogEntryCell());
+        listView.setStyle("-fx-font-family: monospace;");
+        VBox.setVgrow(listView, Priority.ALWAYS);
+
+        getChildren().addAll(createHeader(), listView);
+    }
+
+    private HBox createHeader() {
+        HBox header = new HBox(10);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        Label title = new Label("Activity Logs:");
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+
+        levelFilter = new ComboBox<>(FXCollections.observableArrayList(ALL, "Warnings", "Errors"));
+        levelFilter.setValue(ALL);
+
+        platformFilter = new ComboBox<>(FXCollections.observableArrayList(
+            ALL, "YouTube", "Twitch", "Kick", LogEntry.SYSTEM));
+        platformFilter.setValue(ALL);
+
+        channelFilter = new TextField();
+        channelFilter.setPromptText("Filter by channel");
+        channelFilter.setPrefWidth(150);
+
+        levelFilter.setOnAction(e -> updateFilter());
+        platformFilter.setOnAction(e -> updateFilter());
+        channelFilter.textProperty().addListener((obs, oldText, newText) -> updateFilter());
+
+        header.getChildren().addAll(title, spacer, levelFilter, platformFilter, channelFilter);
+        return header;
+    }
+
+    /**
+     * Rebuild the filter predicate, the filtered list only keeps indices into the ring buffer
+     */
+    private void updateFilter() {
+        LogEntry.Level minLevel;
+        switch (levelFilter.getValue()) {
+            case "Warnings":
+                minLevel = LogEntry.Level.WARN;
+                break;
+            case "Errors":
+                minLevel = LogEntry.Level.ERROR;
+                break;
+            default:
+                minLevel = LogEntry.Level.INFO;
+                break;
+        }
+        String platform = platformFilter.getValue();
+        String channel = channelFilter.getText() == null ? "" : channelFilter.getText().trim().toLowerCase();
+
+        if (minLevel == LogEntry.Level.INFO && ALL.equals(platform) && channel.isEmpty()) {
+            filteredEntries.setPredicate(null);
+            return;
+        }
+
+        Predicate<LogEntry> predicate = entry ->
+            entry.getLevel().compareTo(minLevel) >= 0
+                && (ALL.equals(platform) || platform.equalsIgnoreCase(entry.getPlatform()))
+                && (channel.isEmpty() || entry.getChannel().toLowerCase().contains(channel));
+        filteredEntries.setPredicate(predicate);
+    }
+
+    /**
+     * Append an entry, can be called from any thread
+     */
+    public void append(LogEntry entry) {
+        pending.add(entry);
+        if (drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    /**
+     * Apply all pending entries in one change, runs on the JavaFX thread
+     */
+    private void drain() {
+        drainScheduled.set(false);
+
+        List<LogEntry> batch = new ArrayList<>();
+        LogEntry entry;
+        while ((entry = pending.poll()) != null) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        boolean atBottom = isScrolledToBottom();
+        buffer.appendAll(batch);
+
+        if (atBottom && !filteredEntries.isEmpty()) {
+            listView.scrollTo(filteredEntries.size() - 1);
+        }
+    }
+
+    private boolean isScrolledToBottom() {
+        // Follow new entries unless the user selected an older one
+        int selected = listView.getSelectionModel().getSelectedIndex();
+        return selected < 0 || selected >= filteredEntries.size() - 1;
+    }
+
+    /**
+     * Clear the entries shown in the view (the log file is kept)
+     */
+    public void clear() {
+        buffer.clear();
+    }
+
+    /**
+     * List cell colored by log level
+     */
+    private static class LogEntryCell extends ListCell<LogEntry> {
+        @Override
+        protected void updateItem(LogEntry entry, boolean empty) {
+            super.updateItem(entry, empty);
+
+            if (empty || entry == null) {
+                setText(null);
+                setStyle("");
+                return;
+            }
+
+            setText(entry.format());
+            switch (entry.getLevel()) {
+                case ERROR:
+                    setStyle("-fx-text-fill: #e74c3c;");
+                    break;
+                case WARN:
+                    setStyle("-fx-text-fill: #e67e22;");
+                    break;
+                default:
+                    setStyle("");
+                    break;
+            }
+        }
+    }
+}
@@ -12,7 +12,9 @@ package com.yougo.streamwarden.ui;
 
 import com.yougo.streamwarden.ChannelEntry;
 import com.yougo.streamwarden.config.AppSettings;
+import com.yougo.streamwarden.core.RecordingProfile;
 import javafx.application.Platform;
+import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
@@ -24,8 +26,12 @@ import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
 import javafx.stage.Modality;
 
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 public class AddChannelDialog extends Dialog<ChannelEntry> {
     
@@ -33,6 +39,16 @@ public class AddChannelDialog extends Dialog<ChannelEntry> {
     private TextField channelNameField;
     private ComboBox<String> qualityCombo;
     private CheckBox enabledCheckBox;
+    private TextField extraQualitiesField;
+    private TextField segmentThreadsField;
+    private TextField ringBufferField;
+    private TextField liveEdgeField;
+    private TextField segmentAttemptsField;
+    private TextField segmentTimeoutField;
+    private TextField streamTimeoutField;
+    private TextField openRetriesField;
+    // Recording option fields with the check their non-empty text must pass
+    private final Map<TextField, Predicate<String>> optionValidators = new LinkedHashMap<>();
     private boolean isEditMode = false;
     
     public AddChannelDialog() {
@@ -58,7 +74,8 @@ public class AddChannelDialog extends Dialog<ChannelEntry> {
         // Enable/disable action button based on form validity
         Button actionButton = (Button) getDialogPane().lookupButton(actionButtonType);
         actionButton.disableProperty().bind(
-            Bindings.isEmpty(channelNameField.textProperty())
+            Bindings.isEmpty(channelNameField.textProperty()).or(Bindings.createBooleanBinding(this::hasInvalidOption,
+                optionValidators.keySet().stream().map(TextField::textProperty).toArray(Observable[]::new)))
         );
         
         // Set result converter
@@ -126,9 +143,156 @@ public class AddChannelDialog extends Dialog<ChannelEntry> {
         enabledCheckBox.setSelected(true);
         grid.add(enabledCheckBox, 1, 3);
         
+        // Streamlink tuning, empty fields inherit the platform profile shown as prompt text
+        TitledPane recordingPane = new TitledPane("Recording options", createRecordingOptions());
+        recordingPane.setExpanded(false);
+        recordingPane.expandedProperty().addListener((obs, was, expanded) ->
+            Platform.runLater(() -> getDialogPane().getScene().getWindow().sizeToScene()));
+        grid.add(recordingPane, 0, 4, 2, 1);
+        
+        platformCombo.valueProperty().addListener((obs, oldPlatform, newPlatform) -> updateInheritedPrompts(newPlatform));
+        updateInheritedPrompts(platformCombo.getValue());
+        
         return grid;
     }
     
+    private GridPane createRecordingOptions() {
+        GridPane options = new GridPane();
+        options.setHgap(10);
+        options.setVgap(6);
+        
+        extraQualitiesField = addOptionField(options, 0, "Extra outputs (qualities):");
+        extraQualitiesField.setPromptText("e.g. 480p, 360p");
+        segmentThreadsField = addOptionField(options, 1, String.format("Segment threads (%d-%d):", 
+            RecordingProfile.MIN_SEGMENT_THREADS, RecordingProfile.MAX_SEGMENT_THREADS), 
+            integerIn(RecordingProfile.MIN_SEGMENT_THREADS, RecordingProfile.MAX_SEGMENT_THREADS));
+        ringBufferField = addOptionField(options, 2, "Ring buffer size:", 
+            text -> RecordingProfile.isValidSize(text.toUpperCase()));
+        liveEdgeField = addOptionField(options, 3, "HLS live edge (segments):", integerIn(1, Integer.MAX_VALUE));
+        segmentAttemptsField = addOptionField(options, 4, "Segment attempts:", integerIn(1, Integer.MAX_VALUE));
+        segmentTimeoutField = addOptionField(options, 5, "Segment timeout (s):", integerIn(1, Integer.MAX_VALUE));
+        streamTimeoutField = addOptionField(options, 6, "Stream timeout (s):", integerIn(1, Integer.MAX_VALUE));
+        openRetriesField = addOptionField(options, 7, "Open retries:", integerIn(1, Integer.MAX_VALUE));
+        return options;
+    }
+    
+    /**
+     * Option field whose value is checked as it is typed: an invalid value is outlined and blocks saving
+     * instead of being dropped for the inherited one
+     */
+    private TextField addOptionField(GridPane options, int row, String label, Predicate<String> validator) {
+        TextField field = addOptionField(options, row, label);
+        optionValidators.put(field, validator);
+        Tooltip invalidTooltip = new Tooltip("Invalid value, leave empty to use the default");
+        field.textProperty().addListener((obs, oldText, newText) -> {
+            boolean valid = isValidOption(field);
+            field.setStyle(valid ? "" : "-fx-border-color: #e74c3c;");
+            field.setTooltip(valid ? null : invalidTooltip);
+        });
+        return field;
+    }
+    
+    private static Predicate<String> integerIn(int min, int max) {
+        return text -> {
+            try {
+                int value = Integer.parseInt(text);
+                return value >= min && value <= max;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        };
+    }
+    
+    private boolean isValidOption(TextField field) {
+        String text = field.getText() == null ? "" : field.getText().trim();
+        return text.isEmpty() || optionValidators.get(field).test(text);
+    }
+    
+    private boolean hasInvalidOption() {
+        return !optionValidators.keySet().stream().allMatch(this::isValidOption);
+    }
+    
+    private static TextField addOptionField(GridPane options, int row, String label) {
+        TextField field = new TextField();
+        field.setPrefColumnCount(8);
+        options.add(new Label(label), 0, row);
+        options.add(field, 1, row);
+        return field;
+    }
+    
+    /**
+     * Show the values a channel on this platform gets when the field is left empty
+     */
+    private void updateInheritedPrompts(String platform) {
+        RecordingProfile inherited = AppSettings.load().getRecordingProfile(platform)
+            .withDefaults(RecordingProfile.DEFAULTS);
+        segmentThreadsField.setPromptText(promptOf(inherited.getSegmentThreads()));
+        ringBufferField.setPromptText(promptOf(inherited.getRingBufferSize()));
+        liveEdgeField.setPromptText(promptOf(inherited.getLiveEdge()));
+        segmentAttemptsField.setPromptText(promptOf(inherited.getSegmentAttempts()));
+        segmentTimeoutField.setPromptText(promptOf(inherited.getSegmentTimeoutSeconds()));
+        streamTimeoutField.setPromptText(promptOf(inherited.getStreamTimeoutSeconds()));
+        openRetriesField.setPromptText(promptOf(inherited.getOpenRetries()));
+    }
+    
+    private static String promptOf(Object inherited) {
+        return inherited != null ? "Default: " + inherited : "Streamlink default";
+    }
+    
+    private void fillRecordingProfile(RecordingProfile profile) {
+        segmentThreadsField.setText(textOf(profile.getSegmentThreads()));
+        ringBufferField.setText(textOf(profile.getRingBufferSize()));
+        liveEdgeField.setText(textOf(profile.getLiveEdge()));
+        segmentAttemptsField.setText(textOf(profile.getSegmentAttempts()));
+        segmentTimeoutField.setText(textOf(profile.getSegmentTimeoutSeconds()));
+        streamTimeoutField.setText(textOf(profile.getStreamTimeoutSeconds()));
+        openRetriesField.setText(textOf(profile.getOpenRetries()));
+    }
+    
+    private static String textOf(Object value) {
+        return value != null ? value.toString() : "";
+    }
+    
+    /**
+     * Channel overrides from the form, empty fields are inherited (invalid values can't be saved)
+     */
+    private RecordingProfile createRecordingProfile() {
+        String ringBuffer = ringBufferField.getText().trim().toUpperCase();
+        return new RecordingProfile(
+            parseInteger(segmentThreadsField),
+            ringBuffer.isEmpty() ? null : ringBuffer,
+            parseInteger(liveEdgeField),
+            parseInteger(segmentAttemptsField),
+            parseInteger(segmentTimeoutField),
+            parseInteger(streamTimeoutField),
+            parseInteger(openRetriesField));
+    }
+    
+    /**
+     * Comma or space separated qualities recorded as additional outputs
+     */
+    private List<String> parseExtraQualities() {
+        List<String> qualities = new ArrayList<>();
+        for (String quality : extraQualitiesField.getText().trim().split("[,\\s]+")) {
+            if (!quality.isEmpty()) {
+                qualities.add(quality.toLowerCase());
+            }
+        }
+        return qualities;
+    }
+    
+    private static Integer parseInteger(TextField field) {
+        String text = field.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
     private ChannelEntry createChannelEntry() {
         String platform = platformCombo.getValue();
         String channelName = channelNameField.getText().trim();
@@ -144,7 +308,9 @@ public class AddChannelDialog extends Dialog<ChannelEntry> {
             channelUrl,
             isEnabled,
             "Offline", // Initial status
-            quality
+            quality,
+            createRecordingProfile(),
+            parseExtraQualities()
         );
     }
     
@@ -178,6 +344,8 @@ public class AddChannelDialog extends Dialog<ChannelEntry> {
         dialog.channelNameField.setText(existing.getChannelName());
         dialog.qualityCombo.setValue(existing.getQuality());
         dialog.enabledCheckBox.setSelected(existing.getIsActive());
+        dialog.fillRecordingProfile(existing.getRecordingProfile());
+        dialog.extraQualitiesField.setText(String.join(", ", existing.getExtraQualities()));
         return dialog.showAndWait();
     }
     
@@ -185,6 +353,8 @@ public class AddChannelDialog extends Dialog<ChannelEntry> {
      * Custom ListCell to display platform icons alongside text
      */
     private static class PlatformListCell extends ListCell<String> {
+        private final ImageView iconView = new ImageView();
+        
         @Override
         protected void updateItem(String platform, boolean empty) {
             super.updateItem(platform, empty);
@@ -195,45 +365,15 @@ public class AddChannelDialog extends Dialog<ChannelEntry> {
             } else {
                 setText(platform);
                 
-                // Load platform icon
-                ImageView icon = loadPlatformIcon(platform);
+                // Get cached platform icon
+                Image icon = PlatformIcons.get(platform, PlatformIcons.LIST_SIZE);
                 if (icon != null) {
-                    setGraphic(icon);
+                    iconView.setImage(icon);
+                    setGraphic(iconView);
                 } else {
                     setGraphic(null);
                 }
             }
         }
-        
-        /**
-         * Load platform icon from assets/icons directory
-         */
-        private ImageView loadPlatformIcon(String platform) {
-            try {
-                String iconPath = "/assets/icons/" + platform.toLowerCase() + ".png";
-                InputStream iconStream = getClass().getResourceAsStream(iconPath);
-                
-                if (iconStream != null) {
-                    Image image = new Image(iconStream);
-                    
-                    // Check if image loaded successfully
-                    if (!image.isError()) {
-                        ImageView imageView = new ImageView(image);
-                        
-                        // Set icon size to match text height (approximately 16px)
-                        imageView.setFitWidth(16);
-                        imageView.setFitHeight(16);
-                        imageView.setPreserveRatio(true);
-                        
-                        return imageView;
-                    }
-                }
-            } catch (Exception e) {
-                // If icon loading fails, continue without icon
-                System.err.println("Failed to load icon for platform: " + platform + " - " + e.getMessage());
-            }
-            
-            return null;
-        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.ui;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity observable list: appending past capacity evicts the oldest elements.
+ * Backed by a circular array so appends never shift or copy the stored elements.
+ * Must only be modified on the JavaFX thread.
+ */
+public class LogRingBuffer<E> extends ObservableListBase<E> {
+
+    private final Object[] elements;
+    private int head = 0; // Index of the oldest element
+    private int size = 0;
+
+    public LogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.elements = new Object[capacity];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) elements[(head + index) % elements.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Append a batch of elements as a single change, evicting the oldest ones if needed
+     */
+    @SuppressWarnings("unchecked")
+    public void appendAll(List<E> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Only the newest elements of an oversized batch can be kept
+        List<E> toAdd = batch.size() > elements.length
+            ? batch.subList(batch.size() - elements.length, batch.size())
+            : batch;
+
+        beginChange();
+        try {
+            int evictCount = Math.max(0, size + toAdd.size() - elements.length);
+            if (evictCount > 0) {
+                List<E> evicted = new ArrayList<>(evictCount);
+                for (int i = 0; i < evictCount; i++) {
+                    int slot = (head + i) % elements.length;
+                    evicted.add((E) elements[slot]);
+                    elements[slot] = null;
+                }
+                head = (head + evictCount) % elements.length;
+                size -= evictCount;
+                nextRemove(0, evicted);
+            }
+
+            int from = size;
+            for (E element : toAdd) {
+                elements[(head + size) % elements.length] = element;
+                size++;
+            }
+            nextAdd(from, size);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(this);
+            java.util.Arrays.fill(elements, null);
+            head = 0;
+            size = 0;
+            nextRemove(0, removed);
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.ui;
+
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of platform icons. Each icon is decoded once per size, already scaled
+ * to the size it is drawn at, so cells only have to swap the Image on their ImageView.
+ */
+public final class PlatformIcons {
+
+    public static final int TABLE_SIZE = 20;
+    public static final int LIST_SIZE = 16;
+
+    private static final String[] PLATFORMS = {"YouTube", "Twitch", "Kick"};
+    private static final int[] SIZES = {TABLE_SIZE, LIST_SIZE};
+
+    // Missing icons are cached as empty so a failed lookup is not retried on every cell update
+    private static final Map<String, Optional<Image>> cache = new ConcurrentHashMap<>();
+
+    private PlatformIcons() {}
+
+    /**
+     * Decode every known platform icon in all sizes, called once at startup
+     */
+    public static void preload() {
+        for (String platform : PLATFORMS) {
+            for (int size : SIZES) {
+                get(platform, size);
+            }
+        }
+    }
+
+    /**
+     * Get the icon for a platform at the given size, or null if there is none
+     */
+    public static Image get(String platform, int size) {
+        if (platform == null) {
+            return null;
+        }
+        String key = platform.toLowerCase() + "@" + size;
+        return cache.computeIfAbsent(key, k -> Optional.ofNullable(load(platform, size))).orElse(null);
+    }
+
+    private static Image load(String platform, int size) {
+        String iconPath = "/assets/icons/" + platform.toLowerCase() + ".png";
+        try (InputStream iconStream = PlatformIcons.class.getResourceAsStream(iconPath)) {
+            if (iconStream == null) {
+                return null;
+            }
+            // Let the decoder scale once instead of scaling the full image on every draw
+            Image image = new Image(iconStream, size, size, true, true);
+            return image.isError() ? null : image;
+        } catch (Exception e) {
+            System.err.println("Failed to load icon for platform: " + platform + " - " + e.getMessage());
+            return null;
+        }
+    }
+}
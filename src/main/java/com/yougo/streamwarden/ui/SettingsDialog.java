@@ -11,6 +11,7 @@
 package com.yougo.streamwarden.ui;
 
 import com.yougo.streamwarden.config.AppSettings;
+import com.yougo.streamwarden.logging.LogEntry;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
@@ -24,11 +25,25 @@ import java.util.Optional;
 public class SettingsDialog extends Dialog<Boolean> {
     
     private TextField outputDirectoryField;
+    private TextField customStreamlinkPathField;
     private CheckBox autoStartMonitoringCheckBox;
     private Spinner<Integer> defaultCheckIntervalSpinner;
     private ComboBox<String> defaultQualityCombo;
     private CheckBox minimizeToTrayCheckBox;
     private CheckBox recordHighFpsCheckBox;
+    private CheckBox useScratchDirectoryCheckBox;
+    private TextField scratchDirectoryField;
+    private Spinner<Integer> migrationRateLimitSpinner;
+    private ComboBox<LogEntry.Level> logLevelCombo;
+    private CheckBox apiEnabledCheckBox;
+    private Spinner<Integer> apiPortSpinner;
+    private TextField apiTokenField;
+    private CheckBox metricsEnabledCheckBox;
+    private Spinner<Integer> metricsPortSpinner;
+    private CheckBox flightRecorderCheckBox;
+    private CheckBox builtInHlsRecorderCheckBox;
+    private Spinner<Integer> maxExtraOutputsSpinner;
+    private CheckBox youTubeSchedulesCheckBox;
     
     private AppSettings settings;
     
@@ -77,12 +92,43 @@ public class SettingsDialog extends Dialog<Boolean> {
         outputDirectoryField.setEditable(false);
         
         Button browseButton = new Button("Browse...");
-        browseButton.setOnAction(e -> selectOutputDirectory());
+        browseButton.setOnAction(e -> selectDirectory(outputDirectoryField, "Select Output Directory"));
         
         grid.add(outputDirectoryField, 1, row);
         grid.add(browseButton, 2, row);
         row++;
         
+        // Scratch Directory (storage tiering)
+        grid.add(new Label("Scratch Directory:"), 0, row);
+        useScratchDirectoryCheckBox = new CheckBox("Record to a fast scratch directory, then move to output directory");
+        grid.add(useScratchDirectoryCheckBox, 1, row, 2, 1);
+        row++;
+        
+        scratchDirectoryField = new TextField();
+        scratchDirectoryField.setPrefWidth(300);
+        scratchDirectoryField.setEditable(false);
+        
+        Button browseScratchButton = new Button("Browse...");
+        browseScratchButton.setOnAction(e -> selectDirectory(scratchDirectoryField, "Select Scratch Directory"));
+        
+        scratchDirectoryField.disableProperty().bind(useScratchDirectoryCheckBox.selectedProperty().not());
+        browseScratchButton.disableProperty().bind(useScratchDirectoryCheckBox.selectedProperty().not());
+        
+        grid.add(scratchDirectoryField, 1, row);
+        grid.add(browseScratchButton, 2, row);
+        row++;
+        
+        // Migration rate limit
+        grid.add(new Label("Migration Speed Limit:"), 0, row);
+        migrationRateLimitSpinner = new Spinner<>(0, 10000, 0, 10);
+        migrationRateLimitSpinner.setEditable(true);
+        migrationRateLimitSpinner.setPrefWidth(100);
+        migrationRateLimitSpinner.disableProperty().bind(useScratchDirectoryCheckBox.selectedProperty().not());
+        
+        grid.add(migrationRateLimitSpinner, 1, row);
+        grid.add(new Label("MB/s (0 = unlimited)"), 2, row);
+        row++;
+        
         // Auto Start Monitoring
         grid.add(new Label("Auto Start Monitoring:"), 0, row);
         autoStartMonitoringCheckBox = new CheckBox("Start monitoring active channels on application startup");
@@ -125,6 +171,84 @@ public class SettingsDialog extends Dialog<Boolean> {
         grid.add(minimizeToTrayCheckBox, 1, row, 2, 1);
         row++;
         
+        // Built-in HLS recorder
+        grid.add(new Label("HLS Recorder:"), 0, row);
+        builtInHlsRecorderCheckBox = new CheckBox("Record HLS streams in-process (experimental, Streamlink remains the fallback)");
+        grid.add(builtInHlsRecorderCheckBox, 1, row, 2, 1);
+        row++;
+        
+        // Extra outputs limit
+        grid.add(new Label("Extra Outputs Limit:"), 0, row);
+        maxExtraOutputsSpinner = new Spinner<>(0, 1000, 0, 1);
+        maxExtraOutputsSpinner.setEditable(true);
+        maxExtraOutputsSpinner.setPrefWidth(100);
+        grid.add(maxExtraOutputsSpinner, 1, row);
+        grid.add(new Label("recording at once (0 = unlimited)"), 2, row);
+        row++;
+        
+        // YouTube scheduled starts
+        grid.add(new Label("YouTube Schedules:"), 0, row);
+        youTubeSchedulesCheckBox = new CheckBox("Wait for announced start times of upcoming lives and premieres");
+        grid.add(youTubeSchedulesCheckBox, 1, row, 2, 1);
+        row++;
+        
+        // Streamlink executable
+        grid.add(new Label("Streamlink Path:"), 0, row);
+        customStreamlinkPathField = new TextField();
+        customStreamlinkPathField.setPrefWidth(300);
+        customStreamlinkPathField.setPromptText("Auto-detect (applies after restart)");
+        grid.add(customStreamlinkPathField, 1, row, 2, 1);
+        row++;
+        
+        // Log Level
+        grid.add(new Label("Log Level:"), 0, row);
+        logLevelCombo = new ComboBox<>(FXCollections.observableArrayList(LogEntry.Level.values()));
+        logLevelCombo.setPrefWidth(150);
+        grid.add(logLevelCombo, 1, row);
+        row++;
+        
+        // HTTP API
+        grid.add(new Label("HTTP API:"), 0, row);
+        apiEnabledCheckBox = new CheckBox("Enable local control and status API");
+        grid.add(apiEnabledCheckBox, 1, row, 2, 1);
+        row++;
+        
+        grid.add(new Label("API Port:"), 0, row);
+        apiPortSpinner = new Spinner<>(1024, 65535, 8787, 1);
+        apiPortSpinner.setEditable(true);
+        apiPortSpinner.setPrefWidth(100);
+        apiPortSpinner.disableProperty().bind(apiEnabledCheckBox.selectedProperty().not());
+        grid.add(apiPortSpinner, 1, row);
+        row++;
+        
+        grid.add(new Label("API Token:"), 0, row);
+        apiTokenField = new TextField();
+        apiTokenField.setPrefWidth(300);
+        apiTokenField.setPromptText("None (applies after restart)");
+        apiTokenField.disableProperty().bind(apiEnabledCheckBox.selectedProperty().not());
+        grid.add(apiTokenField, 1, row, 2, 1);
+        row++;
+        
+        // Prometheus metrics
+        grid.add(new Label("Metrics:"), 0, row);
+        metricsEnabledCheckBox = new CheckBox("Expose Prometheus metrics on /metrics");
+        grid.add(metricsEnabledCheckBox, 1, row, 2, 1);
+        row++;
+        
+        grid.add(new Label("Metrics Port:"), 0, row);
+        metricsPortSpinner = new Spinner<>(1024, 65535, 9464, 1);
+        metricsPortSpinner.setEditable(true);
+        metricsPortSpinner.setPrefWidth(100);
+        metricsPortSpinner.disableProperty().bind(metricsEnabledCheckBox.selectedProperty().not());
+        grid.add(metricsPortSpinner, 1, row);
+        row++;
+        
+        // Java Flight Recorder
+        grid.add(new Label("Flight Recorder:"), 0, row);
+        flightRecorderCheckBox = new CheckBox("Keep a continuous JFR recording (saved to logs/streamwarden.jfr on exit)");
+        grid.add(flightRecorderCheckBox, 1, row, 2, 1);
+        row++;
+        
         // Add help text
         Label helpText = new Label("Note: Some settings may require application restart to take effect.");
         helpText.setStyle("-fx-font-size: 11px; -fx-text-fill: #666; -fx-font-style: italic;");
@@ -138,11 +262,25 @@ public class SettingsDialog extends Dialog<Boolean> {
      */
     private void loadCurrentSettings() {
         outputDirectoryField.setText(settings.getOutputDirectory());
+        useScratchDirectoryCheckBox.setSelected(settings.isUseScratchDirectory());
+        scratchDirectoryField.setText(settings.getScratchDirectory());
+        migrationRateLimitSpinner.getValueFactory().setValue(settings.getMigrationRateLimitMBps());
         autoStartMonitoringCheckBox.setSelected(settings.isAutoStartMonitoring());
         defaultCheckIntervalSpinner.getValueFactory().setValue(settings.getDefaultCheckInterval());
         defaultQualityCombo.setValue(settings.getDefaultQuality());
         recordHighFpsCheckBox.setSelected(settings.isRecordHighFps());
         minimizeToTrayCheckBox.setSelected(settings.isMinimizeToTray());
+        customStreamlinkPathField.setText(settings.getCustomStreamlinkPath());
+        logLevelCombo.setValue(settings.getLogLevel());
+        apiEnabledCheckBox.setSelected(settings.isApiEnabled());
+        apiPortSpinner.getValueFactory().setValue(settings.getApiPort());
+        apiTokenField.setText(settings.getApiToken());
+        metricsEnabledCheckBox.setSelected(settings.isMetricsEnabled());
+        metricsPortSpinner.getValueFactory().setValue(settings.getMetricsPort());
+        flightRecorderCheckBox.setSelected(settings.isFlightRecorderEnabled());
+        builtInHlsRecorderCheckBox.setSelected(settings.isBuiltInHlsRecorder());
+        maxExtraOutputsSpinner.getValueFactory().setValue(settings.getMaxExtraOutputs());
+        youTubeSchedulesCheckBox.setSelected(settings.isYouTubeSchedules());
     }
     
     /**
@@ -150,25 +288,39 @@ public class SettingsDialog extends Dialog<Boolean> {
      */
     private void saveSettings() {
         settings.setOutputDirectory(outputDirectoryField.getText());
+        settings.setUseScratchDirectory(useScratchDirectoryCheckBox.isSelected());
+        settings.setScratchDirectory(scratchDirectoryField.getText());
+        settings.setMigrationRateLimitMBps(migrationRateLimitSpinner.getValue());
         settings.setAutoStartMonitoring(autoStartMonitoringCheckBox.isSelected());
         settings.setDefaultCheckInterval(defaultCheckIntervalSpinner.getValue());
         settings.setDefaultQuality(defaultQualityCombo.getValue());
         settings.setRecordHighFps(recordHighFpsCheckBox.isSelected());
         settings.setMinimizeToTray(minimizeToTrayCheckBox.isSelected());
+        settings.setCustomStreamlinkPath(customStreamlinkPathField.getText() == null ? "" : customStreamlinkPathField.getText().trim());
+        settings.setLogLevel(logLevelCombo.getValue());
+        settings.setApiEnabled(apiEnabledCheckBox.isSelected());
+        settings.setApiPort(apiPortSpinner.getValue());
+        settings.setApiToken(apiTokenField.getText() == null ? "" : apiTokenField.getText().trim());
+        settings.setMetricsEnabled(metricsEnabledCheckBox.isSelected());
+        settings.setMetricsPort(metricsPortSpinner.getValue());
+        settings.setFlightRecorderEnabled(flightRecorderCheckBox.isSelected());
+        settings.setBuiltInHlsRecorder(builtInHlsRecorderCheckBox.isSelected());
+        settings.setMaxExtraOutputs(maxExtraOutputsSpinner.getValue());
+        settings.setYouTubeSchedules(youTubeSchedulesCheckBox.isSelected());
         
-        // Save to file
+        // Persist in the background and apply to running monitors
         settings.save();
     }
     
     /**
-     * Open directory chooser for output directory selection
+     * Open directory chooser and put the selected directory into the given field
      */
-    private void selectOutputDirectory() {
+    private void selectDirectory(TextField targetField, String title) {
         DirectoryChooser directoryChooser = new DirectoryChooser();
-        directoryChooser.setTitle("Select Output Directory");
+        directoryChooser.setTitle(title);
         
         // Set initial directory to current setting
-        File currentDir = new File(outputDirectoryField.getText());
+        File currentDir = new File(targetField.getText());
         if (currentDir.exists() && currentDir.isDirectory()) {
             directoryChooser.setInitialDirectory(currentDir);
         }
@@ -178,7 +330,7 @@ public class SettingsDialog extends Dialog<Boolean> {
         File selectedDirectory = directoryChooser.showDialog(stage);
         
         if (selectedDirectory != null) {
-            outputDirectoryField.setText(selectedDirectory.getAbsolutePath());
+            targetField.setText(selectedDirectory.getAbsolutePath());
         }
     }
     
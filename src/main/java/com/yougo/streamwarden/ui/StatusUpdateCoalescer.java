@@ -0,0 +1,102 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.ui;
+
+import com.yougo.streamwarden.ChannelEntry;
+import com.yougo.streamwarden.core.ChannelStatus;
+import com.yougo.streamwarden.jfr.StatusDispatchEvent;
+import javafx.application.Platform;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Accumulates channel status changes from monitor threads and applies them on the
+ * JavaFX thread in a single batch, at most MAX_UPDATES_PER_SECOND times per second.
+ * Only the latest status per channel is kept, and rows are only touched when the value changed.
+ * Channels are identified by key, the row is looked up on the JavaFX thread when applying.
+ */
+public class StatusUpdateCoalescer {
+
+    private static final int MAX_UPDATES_PER_SECOND = 30;
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1) / MAX_UPDATES_PER_SECOND;
+
+    private final Map<String, ChannelStatus> pending = new ConcurrentHashMap<>();
+    private final Function<String, ChannelEntry> rowLookup;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler;
+    private volatile long lastFlushNanos = System.nanoTime() - MIN_INTERVAL_NANOS;
+
+    public StatusUpdateCoalescer(Function<String, ChannelEntry> rowLookup) {
+        this.rowLookup = rowLookup;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("StatusUpdateCoalescer");
+            return t;
+        });
+    }
+
+    /**
+     * Queue a status change, can be called from any thread
+     */
+    public void submit(String channelKey, ChannelStatus status) {
+        pending.put(channelKey, status);
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            long delay = lastFlushNanos + MIN_INTERVAL_NANOS - System.nanoTime();
+            if (delay <= 0) {
+                Platform.runLater(this::flush);
+            } else {
+                scheduler.schedule(() -> Platform.runLater(this::flush), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Apply all pending changes, runs on the JavaFX thread
+     */
+    private void flush() {
+        StatusDispatchEvent dispatchEvent = new StatusDispatchEvent();
+        dispatchEvent.begin();
+        lastFlushNanos = System.nanoTime();
+        // Reset before draining so changes arriving during the drain schedule the next batch
+        flushScheduled.set(false);
+
+        int drained = 0;
+        int applied = 0;
+        for (String channelKey : pending.keySet()) {
+            ChannelStatus status = pending.remove(channelKey);
+            ChannelEntry row = rowLookup.apply(channelKey);
+            drained++;
+            if (status != null && row != null && !status.getDisplayName().equals(row.getStatus())) {
+                row.setStatus(status); // Bound cells update themselves, no table refresh needed
+                applied++;
+            }
+        }
+
+        dispatchEvent.end();
+        if (dispatchEvent.shouldCommit()) {
+            dispatchEvent.pending = drained;
+            dispatchEvent.applied = applied;
+            dispatchEvent.commit();
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,51 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import junit.framework.TestCase;
+
+public class PremiereScheduleTest extends TestCase {
+
+    private static final String SLATE = "\"liveStreamOfflineSlateRenderer\":{";
+
+    public void testScheduledStartFromOfflineSlate() {
+        String page = "<html>" + SLATE + "\"scheduledStartTime\":\"1760000000\",\"mainText\":{}}</html>";
+        assertEquals(1760000000000L, PremiereSchedule.parseScheduledStart(page));
+    }
+
+    public void testNoSlateMeansNothingScheduled() {
+        assertEquals(-1, PremiereSchedule.parseScheduledStart("<html></html>"));
+        // Start times of other videos on the page are ignored
+        assertEquals(-1, PremiereSchedule.parseScheduledStart("\"scheduledStartTime\":\"1760000000\""));
+    }
+
+    public void testStartBeforeSlateIsIgnored() {
+        String page = "\"scheduledStartTime\":\"1760000000\"" + SLATE + "\"mainText\":{}}";
+        assertEquals(-1, PremiereSchedule.parseScheduledStart(page));
+    }
+
+    public void testStartFarAfterSlateIsIgnored() {
+        String page = SLATE + "x".repeat(3000) + "\"scheduledStartTime\":\"1760000000\"";
+        assertEquals(-1, PremiereSchedule.parseScheduledStart(page));
+    }
+
+    public void testOverflowingStartIsIgnored() {
+        String page = SLATE + "\"scheduledStartTime\":\"99999999999999999999\"";
+        assertEquals(-1, PremiereSchedule.parseScheduledStart(page));
+    }
+
+    public void testDelayIsUnchangedWithoutSchedule() {
+        PremiereSchedule schedule = new PremiereSchedule(() -> 0L);
+        assertFalse(schedule.isKnown());
+        assertFalse(schedule.isBeforeWindow());
+        assertEquals(60_000, schedule.nextCheckDelayMs(60_000, 0));
+    }
+}
@@ -0,0 +1,70 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import junit.framework.TestCase;
+
+import java.util.List;
+
+public class QualitySelectorTest extends TestCase {
+
+    private static final List<String> TWITCH = List.of("audio_only", "160p", "360p", "480p", "720p", "720p60",
+        "1080p", "1080p60", "worst", "best");
+
+    public void testExactResolutionPrefersHighFrameRateWithHighFps() {
+        List<String> available = List.of("720p", "1080p", "1080p60");
+        assertEquals("1080p60", QualitySelector.choose("1080p", true, available));
+    }
+
+    public void testExactResolutionPrefersStandardFrameRateWithoutHighFps() {
+        List<String> available = List.of("720p", "1080p", "1080p60");
+        assertEquals("1080p", QualitySelector.choose("1080p", false, available));
+    }
+
+    public void testMissingResolutionFallsBackToHighestBelow() {
+        assertEquals("720p60", QualitySelector.choose("900p", true, TWITCH));
+        assertEquals("720p", QualitySelector.choose("900p", false, TWITCH));
+    }
+
+    public void testOnlyHighFrameRateVariantsAreTakenWithoutHighFps() {
+        List<String> available = List.of("720p60", "1080p60", "1080p50");
+        assertEquals("1080p50", QualitySelector.choose("1080p", false, available));
+    }
+
+    public void testFourKMapsToHeight() {
+        assertEquals(2160, QualitySelector.height("4k"));
+        assertEquals("1080p60", QualitySelector.choose("4k", true, TWITCH));
+    }
+
+    public void testEverythingAboveRequestTakesWorst() {
+        assertEquals("worst", QualitySelector.choose("144p", true, TWITCH));
+        assertNull(QualitySelector.choose("144p", true, List.of("720p", "1080p")));
+    }
+
+    public void testNonResolutionNamesAreTakenAsIs() {
+        assertEquals("best", QualitySelector.choose("best", true, TWITCH));
+        assertEquals("audio_only", QualitySelector.choose("audio_only", false, TWITCH));
+        assertNull(QualitySelector.choose("source", true, TWITCH));
+    }
+
+    public void testEmptyListGivesNothingToChoose() {
+        assertNull(QualitySelector.choose("1080p", true, List.of()));
+    }
+
+    public void testSelectionIsRecomputedWhenInputsChange() {
+        QualitySelector selector = new QualitySelector();
+        List<String> available = List.of("720p", "1080p", "1080p60");
+        assertEquals("1080p60", selector.select("1080p", true, available));
+        assertEquals("1080p", selector.select("1080p", false, available));
+        assertEquals("720p", selector.select("720p", false, available));
+        assertEquals("1080p", selector.select("1080p", true, List.of("720p", "1080p")));
+    }
+}
@@ -0,0 +1,108 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class RecordingJournalTest extends TestCase {
+
+    private File dir;
+    private File journalFile;
+    private RecordingJournal journal;
+
+    @Override
+    protected void setUp() throws IOException {
+        dir = Files.createTempDirectory("journal-test").toFile();
+        journalFile = new File(dir, "recordings.journal");
+        journal = new RecordingJournal(journalFile);
+    }
+
+    @Override
+    protected void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    public void testMissingJournalHasNoOpenRecordings() {
+        assertTrue(journal.replayOpenRecordings().isEmpty());
+    }
+
+    public void testEndedRecordingsAreNotReplayed() {
+        File first = new File(dir, "first.ts");
+        File second = new File(dir, "second.ts");
+        File archive = new File(dir, "second.archive.ts");
+        journal.recordStart("twitch:a", 100, first, null);
+        journal.recordStart("twitch:b", "720p", 200, second, archive);
+        journal.recordEnd("twitch:a", 100, first);
+
+        List<RecordingJournal.Entry> open = journal.replayOpenRecordings();
+        assertEquals(1, open.size());
+        RecordingJournal.Entry entry = open.get(0);
+        assertEquals("twitch:b", entry.channel);
+        assertEquals("720p", entry.output);
+        assertEquals(200, entry.pid);
+        assertEquals(second.getAbsoluteFile(), entry.getFile());
+        assertEquals(archive.getAbsoluteFile(), entry.getArchiveFile());
+    }
+
+    public void testEndMatchesOnPidAndFile() {
+        File file = new File(dir, "same.ts");
+        journal.recordStart("twitch:a", 100, file, null);
+        journal.recordEnd("twitch:a", 101, file);
+        journal.recordEnd("twitch:a", 100, new File(dir, "other.ts"));
+        assertEquals(1, journal.replayOpenRecordings().size());
+
+        journal.recordEnd("twitch:a", 100, file);
+        journal.recordEnd("twitch:a", 100, file); // Duplicates are harmless
+        assertTrue(journal.replayOpenRecordings().isEmpty());
+    }
+
+    public void testTornAndBlankLinesAreSkipped() throws IOException {
+        File file = new File(dir, "kept.ts");
+        journal.recordStart("twitch:a", 100, file, null);
+        Files.write(journalFile.toPath(), "\n{\"event\":\"START\",\"chan".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        List<RecordingJournal.Entry> open = journal.replayOpenRecordings();
+        assertEquals(1, open.size());
+        assertEquals(file.getAbsoluteFile(), open.get(0).getFile());
+    }
+
+    public void testCompactKeepsOnlyOpenRecordings() throws IOException {
+        File ended = new File(dir, "ended.ts");
+        File running = new File(dir, "running.ts");
+        journal.recordStart("twitch:a", 100, ended, null);
+        journal.recordStart("twitch:b", 200, running, null);
+        journal.recordEnd("twitch:a", 100, ended);
+
+        journal.compact(journal.replayOpenRecordings());
+        List<String> lines = Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertFalse(new File(journalFile.getPath() + ".tmp").exists());
+
+        List<RecordingJournal.Entry> open = journal.replayOpenRecordings();
+        assertEquals(1, open.size());
+        assertEquals(running.getAbsoluteFile(), open.get(0).getFile());
+        assertNull(open.get(0).getArchiveFile());
+    }
+}
@@ -0,0 +1,61 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.core;
+
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+public class StreamInfoTest extends TestCase {
+
+    public void testMetadataAndQualitiesAreRead() throws IOException {
+        String json = "{\"plugin\": \"twitch\", \"metadata\": {\"id\": 4242, \"author\": \"someone\", "
+            + "\"category\": \"Just Chatting\", \"title\": \"Hello\", \"extra\": {\"nested\": [1, 2]}}, "
+            + "\"streams\": {\"audio_only\": {\"type\": \"hls\", \"url\": \"https://x/a.m3u8\", \"headers\": {\"A\": \"b\"}}, "
+            + "\"720p60\": {\"type\": \"hls\", \"url\": \"https://x/b.m3u8\"}, \"best\": {\"type\": \"hls\"}}}";
+        StreamInfo info = StreamInfo.parse(new StringReader(json));
+        assertEquals("4242", info.id);
+        assertEquals("someone", info.author);
+        assertEquals("Just Chatting", info.category);
+        assertEquals("Hello", info.title);
+        assertEquals(List.of("audio_only", "720p60", "best"), info.qualities);
+        assertNull(info.error);
+        assertTrue(info.hasTitle());
+    }
+
+    public void testErrorDocument() throws IOException {
+        StreamInfo info = StreamInfo.parse(new StringReader("{\"error\": \"No playable streams found on this URL\"}"));
+        assertEquals("No playable streams found on this URL", info.error);
+        assertTrue(info.qualities.isEmpty());
+        assertFalse(info.hasTitle());
+    }
+
+    public void testNullAndUnexpectedValuesAreIgnored() throws IOException {
+        String json = "{\"metadata\": {\"title\": null, \"author\": [\"a\"]}, \"streams\": []}";
+        StreamInfo info = StreamInfo.parse(new StringReader(json));
+        assertNull(info.title);
+        assertNull(info.author);
+        assertTrue(info.qualities.isEmpty());
+    }
+
+    public void testBlankTitleIsNoTitle() throws IOException {
+        StreamInfo info = StreamInfo.parse(new StringReader("{\"metadata\": {\"title\": \"   \"}}"));
+        assertFalse(info.hasTitle());
+    }
+
+    public void testTrailingOutputIsNotRead() throws IOException {
+        // Only one document is parsed, streamlink may log after it
+        StreamInfo info = StreamInfo.parse(new StringReader("{\"metadata\": {\"title\": \"t\"}}\n[cli][info] done"));
+        assertEquals("t", info.title);
+    }
+}
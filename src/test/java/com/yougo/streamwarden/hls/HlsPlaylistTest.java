@@ -0,0 +1,80 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.hls;
+
+import junit.framework.TestCase;
+
+import java.net.URI;
+
+public class HlsPlaylistTest extends TestCase {
+
+    private static final URI BASE = URI.create("https://cdn.example/live/chunklist.m3u8");
+
+    public void testMediaPlaylist() {
+        HlsPlaylist playlist = HlsPlaylist.parse(BASE, "#EXTM3U\r\n#EXT-X-VERSION:3\r\n#EXT-X-TARGETDURATION:4\r\n"
+            + "#EXT-X-MEDIA-SEQUENCE:120\r\n#EXT-X-DISCONTINUITY-SEQUENCE:3\r\n"
+            + "#EXTINF:4.000,live\r\nseg120.ts\r\n#EXTINF:3.5,\r\nhttps://other.example/seg121.ts\r\n");
+        assertFalse(playlist.isMaster());
+        assertEquals(4.0, playlist.targetDurationSeconds);
+        assertEquals(120, playlist.mediaSequence);
+        assertEquals(3, playlist.discontinuitySequence);
+        assertEquals(2, playlist.segments.size());
+        assertEquals(120, playlist.segments.get(0).sequence);
+        assertEquals(URI.create("https://cdn.example/live/seg120.ts"), playlist.segments.get(0).uri);
+        assertEquals(121, playlist.segments.get(1).sequence);
+        assertEquals(3.5, playlist.segments.get(1).durationSeconds);
+        assertEquals(URI.create("https://other.example/seg121.ts"), playlist.segments.get(1).uri);
+        assertFalse(playlist.endList);
+        assertFalse(playlist.encrypted);
+    }
+
+    public void testMasterPlaylistBestVariant() {
+        HlsPlaylist playlist = HlsPlaylist.parse(BASE, "#EXTM3U\n"
+            + "#EXT-X-STREAM-INF:BANDWIDTH=1280000,CODECS=\"avc1.4d401f,mp4a.40.2\",RESOLUTION=1280x720\n720p.m3u8\n"
+            + "#EXT-X-STREAM-INF:RESOLUTION=1920x1080,BANDWIDTH=6000000\n1080p.m3u8\n"
+            + "#EXT-X-STREAM-INF:BANDWIDTH=640000\n480p.m3u8\n");
+        assertTrue(playlist.isMaster());
+        assertEquals(3, playlist.variants.size());
+        assertEquals(URI.create("https://cdn.example/live/1080p.m3u8"), playlist.bestVariant().uri);
+        assertTrue(playlist.segments.isEmpty());
+    }
+
+    public void testEndListInitSectionAndEncryption() {
+        HlsPlaylist playlist = HlsPlaylist.parse(BASE, "#EXTM3U\n#EXT-X-MAP:URI=\"init.mp4\"\n"
+            + "#EXT-X-KEY:METHOD=AES-128,URI=\"key\"\n#EXTINF:2,\na.m4s\n#EXT-X-ENDLIST\n");
+        assertEquals(URI.create("https://cdn.example/live/init.mp4"), playlist.initSection);
+        assertTrue(playlist.encrypted);
+        assertTrue(playlist.endList);
+        assertEquals(0, playlist.mediaSequence);
+    }
+
+    public void testKeyMethodNoneIsNotEncrypted() {
+        HlsPlaylist playlist = HlsPlaylist.parse(BASE, "#EXTM3U\n#EXT-X-KEY:METHOD=NONE\n#EXTINF:2,\na.ts\n");
+        assertFalse(playlist.encrypted);
+    }
+
+    public void testNotAPlaylist() {
+        try {
+            HlsPlaylist.parse(BASE, "<html></html>");
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    public void testAttribute() {
+        String line = "#EXT-X-STREAM-INF:CODECS=\"a,b\",BANDWIDTH=42,NAME=x";
+        assertEquals("a,b", HlsPlaylist.attribute(line, "CODECS"));
+        assertEquals("42", HlsPlaylist.attribute(line, "BANDWIDTH"));
+        assertEquals("x", HlsPlaylist.attribute(line, "NAME"));
+        assertNull(HlsPlaylist.attribute(line, "RESOLUTION"));
+    }
+}
@@ -0,0 +1,132 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.hls;
+
+import com.sun.net.httpserver.HttpServer;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HlsRecorderTest extends TestCase {
+
+    private static final URI BASE = URI.create("http://127.0.0.1/live.m3u8");
+
+    private static HlsPlaylist playlist(long mediaSequence, long discontinuitySequence, int segments) {
+        StringBuilder text = new StringBuilder("#EXTM3U\n#EXT-X-TARGETDURATION:2\n")
+            .append("#EXT-X-MEDIA-SEQUENCE:").append(mediaSequence).append('\n')
+            .append("#EXT-X-DISCONTINUITY-SEQUENCE:").append(discontinuitySequence).append('\n');
+        for (long sequence = mediaSequence; sequence < mediaSequence + segments; sequence++) {
+            text.append("#EXTINF:2,\n").append(sequence).append(".ts\n");
+        }
+        return HlsPlaylist.parse(BASE, text.toString());
+    }
+
+    public void testSlidingWindowIsNotARestart() {
+        assertFalse(HlsRecorder.isRestart(playlist(100, 0, 3), playlist(101, 0, 3), 103));
+        // No new segment since the last refresh
+        assertFalse(HlsRecorder.isRestart(playlist(100, 0, 3), playlist(100, 0, 3), 103));
+        // A discontinuity left the window together with its segment
+        assertFalse(HlsRecorder.isRestart(playlist(100, 0, 3), playlist(101, 1, 3), 103));
+    }
+
+    public void testSequenceDropIsARestart() {
+        assertTrue(HlsRecorder.isRestart(playlist(100, 0, 3), playlist(0, 0, 3), 103));
+        assertTrue(HlsRecorder.isRestart(playlist(100, 0, 3), playlist(98, 0, 3), 103));
+    }
+
+    public void testDiscontinuitySequenceChangeInPlaceIsARestart() {
+        assertTrue(HlsRecorder.isRestart(playlist(100, 2, 3), playlist(100, 3, 3), 103));
+        assertTrue(HlsRecorder.isRestart(playlist(100, 2, 3), playlist(101, 1, 3), 103));
+    }
+
+    public void testEmptyPlaylistIsNotARestart() {
+        assertFalse(HlsRecorder.isRestart(playlist(100, 0, 3), playlist(0, 0, 0), 103));
+    }
+
+    /**
+     * A stream that restarts its numbering half way is recorded in full: the old segments, then the new ones
+     */
+    public void testRecordingContinuesAcrossRestart() throws Exception {
+        // The clock starts at the first playlist request so a slow recorder start does not slide the window
+        AtomicLong startMillis = new AtomicLong();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            byte[] body;
+            if (path.endsWith(".m3u8")) {
+                startMillis.compareAndSet(0, System.currentTimeMillis());
+                long tick = (System.currentTimeMillis() - startMillis.get()) / 200;
+                boolean restarted = tick >= 6;
+                long first = restarted ? tick - 6 : 100 + tick;
+                StringBuilder text = new StringBuilder("#EXTM3U\n#EXT-X-TARGETDURATION:0.2\n")
+                    .append("#EXT-X-MEDIA-SEQUENCE:").append(first).append('\n');
+                for (long sequence = first; sequence < first + 3; sequence++) {
+                    text.append("#EXTINF:0.2,\n").append(restarted ? "b" : "a").append(sequence).append(".ts\n");
+                }
+                if (tick >= 12) {
+                    text.append("#EXT-X-ENDLIST\n");
+                }
+                body = text.toString().getBytes(StandardCharsets.UTF_8);
+            } else {
+                body = (path.substring(1, path.length() - 3) + ";").getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        Path output = Files.createTempFile("hls-restart", ".ts");
+        try {
+            URI playlistUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/live.m3u8");
+            HlsRecorder recorder = new HlsRecorder(playlistUri, output, 2, 3, 2, 5, 5);
+            recorder.record();
+
+            String[] recorded = Files.readString(output).split(";");
+            assertTrue(recorded.length > 6);
+            assertEquals("a100", recorded[0]);
+            int firstNew = -1;
+            for (int i = 0; i < recorded.length; i++) {
+                if (recorded[i].startsWith("b")) {
+                    firstNew = i;
+                    break;
+                }
+            }
+            assertTrue("Segments after the restart were recorded", firstNew > 0);
+            for (int i = 1; i < recorded.length; i++) {
+                String previous = recorded[i - 1];
+                String current = recorded[i];
+                if (i != firstNew) {
+                    assertEquals(Long.parseLong(previous.substring(1)) + 1, Long.parseLong(current.substring(1)));
+                }
+            }
+            assertEquals(0, recorder.getSegmentsSkipped());
+        } finally {
+            server.stop(0);
+            deleteQuietly(output);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Temporary file
+        }
+    }
+}
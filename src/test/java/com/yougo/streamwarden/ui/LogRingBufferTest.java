@@ -0,0 +1,86 @@
+/* 
+ * Copyright (C) 2025-present YouGo (https://github.com/youg-o)
+ * This program is licensed under the GNU Affero General Public License v3.0.
+ * You may redistribute it and/or modify it under the terms of the license.
+ * 
+ * Attribution must be given to the original author.
+ * This program is distributed without any warranty; see the license for details.
+ */
+
+
+package com.yougo.streamwarden.ui;
+
+import javafx.collections.ListChangeListener;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LogRingBufferTest extends TestCase {
+
+    public void testAppendBelowCapacityKeepsOrder() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(4);
+        buffer.appendAll(List.of("a", "b"));
+        buffer.appendAll(List.of("c"));
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(buffer));
+        assertEquals(4, buffer.capacity());
+    }
+
+    public void testWrapAroundEvictsOldest() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(3);
+        buffer.appendAll(List.of("a", "b", "c"));
+        buffer.appendAll(List.of("d", "e"));
+        assertEquals(List.of("c", "d", "e"), new ArrayList<>(buffer));
+        buffer.appendAll(List.of("f", "g", "h", "i"));
+        assertEquals(List.of("g", "h", "i"), new ArrayList<>(buffer));
+    }
+
+    public void testOversizedBatchKeepsNewest() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(2);
+        buffer.appendAll(List.of(1, 2, 3, 4, 5));
+        assertEquals(List.of(4, 5), new ArrayList<>(buffer));
+    }
+
+    public void testChangeReportsEvictionAndAddition() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(3);
+        buffer.appendAll(List.of("a", "b", "c"));
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        buffer.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+        buffer.appendAll(List.of("d", "e"));
+        assertEquals(List.of("a", "b"), removed);
+        assertEquals(List.of("d", "e"), added);
+    }
+
+    public void testClearAfterWrapAround() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(2);
+        buffer.appendAll(List.of("a", "b", "c"));
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        buffer.appendAll(List.of("x"));
+        assertEquals(List.of("x"), new ArrayList<>(buffer));
+    }
+
+    public void testIndexOutOfRange() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(2);
+        buffer.appendAll(List.of("a"));
+        try {
+            buffer.get(1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    public void testCapacityMustBePositive() {
+        try {
+            new LogRingBuffer<String>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}